@@ -0,0 +1,71 @@
+package com.api.federalHolidays.benchmark;
+
+import com.api.federalHolidays.service.HolidayCsvParser;
+import com.api.federalHolidays.service.UploadRecord;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second for turning CSV upload bytes into upload records: the commons-csv path
+ * used before (CSVRecord.toList() and a trim per field) against HolidayCsvParser.
+ * No database work is involved.
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=CsvParserBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@OperationsPerInvocation(CsvParserBenchmark.ROWS)
+public class CsvParserBenchmark {
+
+    static final int ROWS = 100_000;
+
+    private byte[] csv;
+
+    @Setup
+    public void buildCsv() {
+        int year = Year.now().getValue();
+        int daysInYear = Year.of(year).length();
+        StringBuilder builder = new StringBuilder(ROWS * 48);
+        builder.append("countryCode,countryName,holidayDate,holidayName\n");
+        for (int row = 0; row < ROWS; row++) {
+            String code = String.format("%03d", row / daysInYear);
+            builder.append(code).append(",Country ").append(code).append(',')
+                    .append(LocalDate.ofYearDay(year, row % daysInYear + 1))
+                    .append(",\"Holiday ").append(row % daysInYear).append("\"\n");
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void commonsCsv(Blackhole blackhole) throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(csv));
+             CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
+            for (CSVRecord csvRecord : csvParser) {
+                List<String> columns = csvRecord.toList();
+                blackhole.consume(UploadRecord.of(columns));
+            }
+        }
+    }
+
+    @Benchmark
+    public void holidayCsvParser(Blackhole blackhole) throws IOException {
+        HolidayCsvParser.parse(new ByteArrayInputStream(csv), blackhole::consume);
+    }
+}
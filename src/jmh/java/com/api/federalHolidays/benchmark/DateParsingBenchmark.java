@@ -0,0 +1,59 @@
+package com.api.federalHolidays.benchmark;
+
+import com.api.federalHolidays.util.IsoDates;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating one yyyy-MM-dd holiday date against the current year: the
+ * DateTimeFormatter-per-call pattern the validators used before against IsoDates, for a
+ * valid date and for one that does not exist. Run with -prof gc to see allocations.
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=DateParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DateParsingBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String date;
+
+    @Setup
+    public void setUp() {
+        int year = Year.now().getValue();
+        date = "valid".equals(input) ? year + "-07-04" : year + "-02-30";
+    }
+
+    @Benchmark
+    public boolean dateTimeFormatter() {
+        try {
+            LocalDate parsed = LocalDate.parse(date, DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT));
+            return parsed.getYear() == LocalDate.now().getYear();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean isoDatesValidate() {
+        return IsoDates.year(date) == IsoDates.currentYear();
+    }
+
+    @Benchmark
+    public LocalDate isoDatesParse() {
+        LocalDate parsed = IsoDates.parse(date);
+        return parsed != null && IsoDates.isCurrentYear(parsed) ? parsed : null;
+    }
+}
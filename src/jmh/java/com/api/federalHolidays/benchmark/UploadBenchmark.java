@@ -0,0 +1,102 @@
+package com.api.federalHolidays.benchmark;
+
+import com.api.federalHolidays.FederalHolidaysApplication;
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.repository.CountryRepository;
+import com.api.federalHolidays.repository.FederalHolidayRepository;
+import com.api.federalHolidays.service.FederalHolidayService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second for a 100k-row CSV upload into an empty in-memory H2 database.
+ * batchSize=1 reproduces the one-INSERT-per-row behaviour, batchSize=50 is the configured default.
+ *
+ * Run with: ./gradlew jmh -Pjmh.includes=UploadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@OperationsPerInvocation(UploadBenchmark.ROWS)
+public class UploadBenchmark {
+
+    static final int ROWS = 100_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private FederalHolidayService federalHolidayService;
+    private FederalHolidayRepository federalHolidayRepository;
+    private CountryRepository countryRepository;
+    private MultipartFile file;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SpringApplication application = new SpringApplication(FederalHolidaysApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        // Command-line arguments, unlike default properties, take precedence over application.properties
+        context = application.run(
+                "--federal-holidays.upload.batch-size=" + batchSize,
+                "--spring.datasource.url=jdbc:h2:mem:upload-benchmark",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.api.federalHolidays=WARN");
+        Integer configuredBatchSize = context.getEnvironment().getProperty("federal-holidays.upload.batch-size", Integer.class);
+        Integer hibernateBatchSize = context.getEnvironment().getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class);
+        if (!Integer.valueOf(batchSize).equals(configuredBatchSize) || !Integer.valueOf(batchSize).equals(hibernateBatchSize)) {
+            context.close();
+            throw new IllegalStateException("Benchmark requested batch size " + batchSize + " but the application resolved "
+                    + configuredBatchSize + " (Hibernate: " + hibernateBatchSize + ")");
+        }
+        federalHolidayService = context.getBean(FederalHolidayService.class);
+        federalHolidayRepository = context.getBean(FederalHolidayRepository.class);
+        countryRepository = context.getBean(CountryRepository.class);
+        file = new MockMultipartFile("file", "holidays.csv", "text/csv", buildCsv());
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTables() {
+        federalHolidayRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+    }
+
+    @Benchmark
+    public FileUploadResponse upload() {
+        return federalHolidayService.uploadHolidays(List.of(file));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    // One row per day of the current year for as many 3-character countries as needed; every row is valid
+    private static byte[] buildCsv() {
+        int year = Year.now().getValue();
+        int daysInYear = Year.of(year).length();
+        StringBuilder csv = new StringBuilder(ROWS * 48);
+        csv.append("countryCode,countryName,holidayDate,holidayName\n");
+        for (int row = 0; row < ROWS; row++) {
+            int country = row / daysInYear;
+            int day = row % daysInYear;
+            String code = String.format("%03d", country);
+            LocalDate date = LocalDate.ofYearDay(year, day + 1);
+            csv.append(code).append(",Country ").append(code).append(',')
+                    .append(date).append(",Holiday ").append(day).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
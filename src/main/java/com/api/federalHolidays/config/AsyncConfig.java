@@ -0,0 +1,48 @@
+package com.api.federalHolidays.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Boot only creates its default executor when no other Executor bean exists; keep it for MVC async requests
+    @Bean(name = "applicationTaskExecutor")
+    @Primary
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // Bounded pool for upload work; when it is saturated the submitting thread runs the task itself
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor(
+            @Value("${federal-holidays.upload.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${federal-holidays.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // Background upload jobs; submissions beyond the queue are rejected rather than run on the request thread
+    @Bean(name = "uploadJobExecutor")
+    public ThreadPoolTaskExecutor uploadJobExecutor(
+            @Value("${federal-holidays.upload.jobs.threads:2}") int threads,
+            @Value("${federal-holidays.upload.jobs.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-job-");
+        return executor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.api.federalHolidays.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+@Configuration
+public class MultipartConfig {
+
+    // Reads its multipart body itself, as a stream
+    public static final String STREAMING_UPLOAD_PATH = "/upload/stream";
+
+    // Boot's resolver, except that streamed uploads are left alone: resolving them would make the container buffer the whole body
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StandardServletMultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !request.getRequestURI().endsWith(STREAMING_UPLOAD_PATH) && super.isMultipart(request);
+            }
+        };
+        multipartResolver.setResolveLazily(multipartProperties.isResolveLazily());
+        multipartResolver.setStrictServletCompliance(multipartProperties.isStrictServletCompliance());
+        return multipartResolver;
+    }
+}
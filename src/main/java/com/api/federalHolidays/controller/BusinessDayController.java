@@ -0,0 +1,74 @@
+package com.api.federalHolidays.controller;
+
+import com.api.federalHolidays.dto.BusinessDayCountResponse;
+import com.api.federalHolidays.dto.BusinessDayResponse;
+import com.api.federalHolidays.service.BusinessDayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/federal-holidays/business-days")
+@Tag(name = "Business Days API", description = "Business-day arithmetic that skips weekends and the holidays of a country")
+public class BusinessDayController {
+
+    @Autowired
+    private BusinessDayService businessDayService;
+
+    @Operation(summary = "Add business days to a date", description = "Returns the date that is the given number of business days after (or, for a negative number, before) the date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully calculated the date"),
+            @ApiResponse(responseCode = "400", description = "Invalid date or number of days"),
+            @ApiResponse(responseCode = "404", description = "Country not found")
+    })
+    @GetMapping("/add")
+    public ResponseEntity<BusinessDayResponse> addBusinessDays(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Start date in the format yyyy-MM-dd", required = true)
+            @RequestParam String date,
+            @Parameter(description = "Number of business days to add, may be negative", required = true)
+            @RequestParam int days) {
+        return ResponseEntity.ok(businessDayService.addBusinessDays(countryCode, date, days));
+    }
+
+    @Operation(summary = "Count business days between two dates", description = "Counts business days from the start date (inclusive) to the end date (exclusive)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully counted business days"),
+            @ApiResponse(responseCode = "400", description = "Invalid date"),
+            @ApiResponse(responseCode = "404", description = "Country not found")
+    })
+    @GetMapping("/between")
+    public ResponseEntity<BusinessDayCountResponse> businessDaysBetween(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Start date (inclusive) in the format yyyy-MM-dd", required = true)
+            @RequestParam String from,
+            @Parameter(description = "End date (exclusive) in the format yyyy-MM-dd", required = true)
+            @RequestParam String to) {
+        return ResponseEntity.ok(businessDayService.businessDaysBetween(countryCode, from, to));
+    }
+
+    @Operation(summary = "Get the next business day", description = "Returns the first business day strictly after the date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully calculated the date"),
+            @ApiResponse(responseCode = "400", description = "Invalid date"),
+            @ApiResponse(responseCode = "404", description = "Country not found")
+    })
+    @GetMapping("/next")
+    public ResponseEntity<BusinessDayResponse> nextBusinessDay(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Date in the format yyyy-MM-dd", required = true)
+            @RequestParam String date) {
+        return ResponseEntity.ok(businessDayService.nextBusinessDay(countryCode, date));
+    }
+}
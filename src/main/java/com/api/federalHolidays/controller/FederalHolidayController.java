@@ -1,23 +1,50 @@
 package com.api.federalHolidays.controller;
 
+import com.api.federalHolidays.config.MultipartConfig;
+import com.api.federalHolidays.dto.CacheStatsResponse;
+import com.api.federalHolidays.dto.CalendarSetOperation;
+import com.api.federalHolidays.dto.CalendarSetResponse;
 import com.api.federalHolidays.dto.FederalHolidayRequest;
 import com.api.federalHolidays.dto.FederalHolidayResponse;
 import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.HolidayBatchCheckResponse;
+import com.api.federalHolidays.dto.HolidayCheckRequest;
+import com.api.federalHolidays.dto.HolidayCheckResponse;
+import com.api.federalHolidays.dto.SecondLevelCacheStatsResponse;
+import com.api.federalHolidays.dto.UploadJobResponse;
+import com.api.federalHolidays.dto.UploadMode;
+import com.api.federalHolidays.exception.CustomException;
 import com.api.federalHolidays.exception.ResourceNotFoundException;
 import com.api.federalHolidays.service.FederalHolidayService;
+import com.api.federalHolidays.service.StreamingUploadService;
+import com.api.federalHolidays.service.UploadJobService;
+import com.api.federalHolidays.service.UploadReportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -29,6 +56,18 @@ public class FederalHolidayController {
     @Autowired
     private FederalHolidayService federalHolidayService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UploadJobService uploadJobService;
+
+    @Autowired
+    private UploadReportService uploadReportService;
+
+    @Autowired
+    private StreamingUploadService streamingUploadService;
+
     @Operation(summary = "Get all federal holidays", description = "Retrieve a list of all federal holidays")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
@@ -43,6 +82,29 @@ public class FederalHolidayController {
         return new ResponseEntity<>(holidays, HttpStatus.OK);
     }
 
+    @Operation(summary = "Stream all federal holidays", description = "Stream every federal holiday as newline-delimited JSON, one holiday per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed list"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/getAll", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllHolidays() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                federalHolidayService.streamAllHolidays(holiday -> {
+                    try {
+                        generator.writeObject(holiday);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @Operation(summary = "Get holidays by country code", description = "Retrieve a list of federal holidays for a specific country")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
@@ -60,6 +122,105 @@ public class FederalHolidayController {
         return new ResponseEntity<>(holidays, HttpStatus.OK);
     }
 
+    @Operation(summary = "Get holidays in a date range", description = "Retrieve holidays of one or more countries between two dates (both inclusive), ordered by date")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "400", description = "Invalid country codes, dates or limit"),
+            @ApiResponse(responseCode = "404", description = "No holidays found in the range")
+    })
+    @GetMapping("/get/range")
+    public ResponseEntity<List<FederalHolidayResponse>> getHolidaysInRange(
+            @Parameter(description = "Comma separated country codes (e.g., US,IN)", required = true)
+            @RequestParam List<String> countryCodes,
+            @Parameter(description = "Start date (inclusive) in the format yyyy-MM-dd", required = true)
+            @RequestParam String from,
+            @Parameter(description = "End date (inclusive) in the format yyyy-MM-dd", required = true)
+            @RequestParam String to,
+            @Parameter(description = "Maximum number of holidays to return")
+            @RequestParam(defaultValue = "1000") int limit,
+            @Parameter(description = "Date ordering, ASC or DESC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        return ResponseEntity.ok(federalHolidayService.getHolidaysInRange(countryCodes, from, to, limit, direction));
+    }
+
+    @Operation(summary = "Check whether a date is a holiday", description = "Returns whether the given date is a federal holiday in the given country")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully checked the date"),
+            @ApiResponse(responseCode = "400", description = "Invalid date"),
+            @ApiResponse(responseCode = "404", description = "Country not found")
+    })
+    @GetMapping("/is-holiday")
+    public ResponseEntity<HolidayCheckResponse> isHoliday(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Date to check in the format yyyy-MM-dd", required = true)
+            @RequestParam String date) {
+        return ResponseEntity.ok(federalHolidayService.isHoliday(countryCode, date));
+    }
+
+    @Operation(summary = "Get the next holidays", description = "Returns up to count holidays strictly after the date, earliest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "400", description = "Invalid date or count"),
+            @ApiResponse(responseCode = "404", description = "Country not found or no later holiday")
+    })
+    @GetMapping("/next-holiday")
+    public ResponseEntity<List<FederalHolidayResponse>> getNextHolidays(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Date in the format yyyy-MM-dd", required = true)
+            @RequestParam String date,
+            @Parameter(description = "Number of holidays to return")
+            @RequestParam(defaultValue = "1") int count) {
+        return ResponseEntity.ok(federalHolidayService.getNextHolidays(countryCode, date, count));
+    }
+
+    @Operation(summary = "Get the previous holidays", description = "Returns up to count holidays strictly before the date, nearest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+            @ApiResponse(responseCode = "400", description = "Invalid date or count"),
+            @ApiResponse(responseCode = "404", description = "Country not found or no earlier holiday")
+    })
+    @GetMapping("/previous-holiday")
+    public ResponseEntity<List<FederalHolidayResponse>> getPreviousHolidays(
+            @Parameter(description = "Country code (e.g., US, IN)", required = true)
+            @RequestParam String countryCode,
+            @Parameter(description = "Date in the format yyyy-MM-dd", required = true)
+            @RequestParam String date,
+            @Parameter(description = "Number of holidays to return")
+            @RequestParam(defaultValue = "1") int count) {
+        return ResponseEntity.ok(federalHolidayService.getPreviousHolidays(countryCode, date, count));
+    }
+
+    @Operation(summary = "Combine the holiday calendars of several countries", description = "UNION returns days on which any country has a holiday, INTERSECTION days on which all do, DIFFERENCE holidays of the first country shared by none of the others")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully combined the calendars"),
+            @ApiResponse(responseCode = "400", description = "Invalid country codes, operation or year"),
+            @ApiResponse(responseCode = "404", description = "Country not found")
+    })
+    @GetMapping("/calendar/combine")
+    public ResponseEntity<CalendarSetResponse> combineCalendars(
+            @Parameter(description = "Comma separated country codes (e.g., US,IN)", required = true)
+            @RequestParam List<String> countryCodes,
+            @Parameter(description = "Set operation: UNION, INTERSECTION or DIFFERENCE", required = true)
+            @RequestParam CalendarSetOperation operation,
+            @Parameter(description = "Calendar year", required = true)
+            @RequestParam int year) {
+        return ResponseEntity.ok(federalHolidayService.combineCalendars(countryCodes, operation, year));
+    }
+
+    @Operation(summary = "Check many dates in one request", description = "Checks a list of country code and date pairs and returns one flag per pair in request order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully checked the dates"),
+            @ApiResponse(responseCode = "400", description = "Invalid or missing pairs")
+    })
+    @PostMapping("/is-holiday/batch")
+    public ResponseEntity<HolidayBatchCheckResponse> isHolidayBatch(
+            @Parameter(description = "Country code and date pairs to check", required = true)
+            @RequestBody List<HolidayCheckRequest> checks) {
+        return ResponseEntity.ok(federalHolidayService.isHolidayBatch(checks));
+    }
+
     @Operation(summary = "Add a new federal holiday", description = "Add a new federal holiday for a country")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Holiday successfully added"),
@@ -129,6 +290,73 @@ public class FederalHolidayController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Upload holidays from multiple files in a given mode", description = "Uploads holidays from multiple CSV or Excel files. SEQUENTIAL processes all files in one transaction; PARALLEL parses files concurrently and saves each file in its own transaction; CHUNKED commits every chunk-size rows; UPSERT renames holidays on existing dates and skips rows already present; STAGED validates and inserts through a staging table; PIPELINED parses and validates on pool threads while rows are saved")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Files processed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid file format, data or mode"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "mode")
+    public ResponseEntity<FileUploadResponse> uploadHolidays(
+            @RequestParam("files") List<MultipartFile> files,
+            @Parameter(description = "Upload processing mode") @RequestParam("mode") UploadMode mode) {
+        FileUploadResponse response = federalHolidayService.uploadHolidays(files, mode);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Upload holidays while the request is arriving", description = "Same as /upload with a mode, but the files are parsed straight from the multipart request as it arrives instead of being buffered first. Memory does not grow with file size, so the size limits (federal-holidays.upload.stream.*) can be much larger. Every mode but PARALLEL is supported")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Files processed successfully"),
+            @ApiResponse(responseCode = "400", description = "Malformed multipart request, invalid file format, data or mode"),
+            @ApiResponse(responseCode = "413", description = "File or request larger than the streaming limits"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @Parameter(name = "mode", in = ParameterIn.QUERY, description = "Upload processing mode, SEQUENTIAL by default")
+    @PostMapping(value = MultipartConfig.STREAMING_UPLOAD_PATH, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<FileUploadResponse> uploadHolidaysStreamed(HttpServletRequest request) throws IOException {
+        // Taken from the query string: asking the request for a parameter would make the container read the whole body
+        String mode = UriComponentsBuilder.newInstance().query(request.getQueryString()).build().getQueryParams().getFirst("mode");
+        FileUploadResponse response = streamingUploadService.uploadHolidays(request.getContentType(), request.getInputStream(), toUploadMode(mode));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Upload holidays in the background", description = "Stores the CSV or Excel files and processes them in a background job. Returns the job id to poll for progress and the final result")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Upload job accepted"),
+            @ApiResponse(responseCode = "400", description = "No files or invalid file format"),
+            @ApiResponse(responseCode = "503", description = "Too many upload jobs in progress")
+    })
+    @PostMapping(value = "/upload/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UploadJobResponse> submitUploadJob(
+            @RequestParam("files") List<MultipartFile> files,
+            @Parameter(description = "Upload processing mode") @RequestParam(value = "mode", defaultValue = "SEQUENTIAL") UploadMode mode) {
+        UploadJobResponse response = uploadJobService.submitUpload(files, mode);
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    @Operation(summary = "Get upload job status", description = "Rows parsed, succeeded, failed and duplicate so far, throughput, estimated time remaining and, once finished, the upload result")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved job status"),
+            @ApiResponse(responseCode = "404", description = "Upload job not found")
+    })
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<UploadJobResponse> getUploadJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(uploadJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "Download an upload report", description = "Streams every failed and duplicate row of an uploaded file as CSV (rowNumber, outcome, errorMessage). The report id is returned in the file result of the upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed report"),
+            @ApiResponse(responseCode = "404", description = "Upload report not found or expired")
+    })
+    @GetMapping(value = "/upload/reports/{reportId}", produces = "text/csv")
+    public ResponseEntity<Resource> getUploadReport(@PathVariable String reportId) {
+        Resource report = new FileSystemResource(uploadReportService.getReport(reportId));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("upload-report-" + reportId + ".csv").build().toString())
+                .body(report);
+    }
+
     @Operation(summary = "Delete all holidays by country code", description = "Deletes all holidays for a specific country code")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Holidays deleted successfully"),
@@ -152,4 +380,33 @@ public class FederalHolidayController {
         int rowsDeleted = federalHolidayService.deleteByCountryCodeAndHolidayDate(countryCode, holidayDate);
         return ResponseEntity.ok(rowsDeleted + " records deleted for country code " + countryCode + " and date " + holidayDate);
     }
+
+    @Operation(summary = "Get holiday calendar cache statistics", description = "Returns hit, miss and eviction counts of the per-country holiday calendar cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCalendarCacheStats() {
+        return ResponseEntity.ok(federalHolidayService.getCalendarCacheStats());
+    }
+
+    @Operation(summary = "Get country cache statistics", description = "Returns hit, miss and put counts of the second-level cache holding country reference data")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    })
+    @GetMapping("/cache/country-stats")
+    public ResponseEntity<SecondLevelCacheStatsResponse> getCountryCacheStats() {
+        return ResponseEntity.ok(federalHolidayService.getCountryCacheStats());
+    }
+
+    private static UploadMode toUploadMode(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return UploadMode.SEQUENTIAL;
+        }
+        try {
+            return UploadMode.valueOf(mode.trim());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException("Invalid upload mode: " + mode, HttpStatus.BAD_REQUEST);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BusinessDayResponse {
+    private String countryCode;
+    private LocalDate date;
+    private int businessDays;
+    private LocalDate resultDate;
+}
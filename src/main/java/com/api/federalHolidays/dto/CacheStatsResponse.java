@@ -0,0 +1,16 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+    private double hitRatio;
+}
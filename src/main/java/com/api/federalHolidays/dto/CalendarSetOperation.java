@@ -0,0 +1,10 @@
+package com.api.federalHolidays.dto;
+
+public enum CalendarSetOperation {
+    // Days on which any of the countries has a holiday
+    UNION,
+    // Days on which every country has a holiday
+    INTERSECTION,
+    // Holidays of the first country that no other country shares
+    DIFFERENCE
+}
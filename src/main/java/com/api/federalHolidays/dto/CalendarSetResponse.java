@@ -0,0 +1,21 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarSetResponse {
+    private CalendarSetOperation operation;
+    private List<String> countryCodes;
+    private int year;
+    private int dayCount;
+    private List<LocalDate> dates;
+    // Six words, bit n of the year (January 1st is bit 0) set when the day is in the result
+    private long[] bitmap;
+}
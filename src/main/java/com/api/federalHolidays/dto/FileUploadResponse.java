@@ -19,6 +19,15 @@ public class FileUploadResponse {
         private int duplicateRecords;
         private List<FailedRecord> failedRecordsDetails;
         private List<DuplicateRecord> duplicateRecordsDetails;
+        // The details hold the first rows only; every failed and duplicate row is in the CSV report
+        // served by GET /upload/reports/{reportId}. Null when no row was rejected.
+        private String reportId;
+        // Only filled in UPSERT upload mode; skipped rows are also counted as duplicates
+        private int insertedRecords;
+        private int updatedRecords;
+        private int skippedRecords;
+        // Only filled in CHUNKED upload mode
+        private List<ChunkResult> chunkResults;
 
         @Data
         public static class FailedRecord {
@@ -31,5 +40,17 @@ public class FileUploadResponse {
             private int rowNumber;
             private String errorMessage;
         }
+
+        @Data
+        public static class ChunkResult {
+            private int chunkNumber;
+            private int firstRow;
+            private int lastRow;
+            private boolean committed;
+            private int successRecords;
+            private int failedRecords;
+            private int duplicateRecords;
+            private String errorMessage;
+        }
     }
 }
\ No newline at end of file
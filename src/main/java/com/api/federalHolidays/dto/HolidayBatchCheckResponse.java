@@ -0,0 +1,15 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayBatchCheckResponse {
+    private int total;
+    private int holidayCount;
+    // One entry per requested pair, in request order
+    private boolean[] holidays;
+}
@@ -0,0 +1,16 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HolidayCheckResponse {
+    private String countryCode;
+    private LocalDate date;
+    private boolean holiday;
+}
@@ -0,0 +1,18 @@
+package com.api.federalHolidays.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecondLevelCacheStatsResponse {
+    private long entityHits;
+    private long entityMisses;
+    private long entityPuts;
+    private long queryHits;
+    private long queryMisses;
+    private long queryPuts;
+    private double hitRatio;
+}
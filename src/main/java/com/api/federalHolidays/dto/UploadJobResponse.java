@@ -0,0 +1,27 @@
+package com.api.federalHolidays.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class UploadJobResponse {
+    private String jobId;
+    private UploadJobStatus status;
+    private UploadMode mode;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long totalBytes;
+    private long bytesRead;
+    private long rowsParsed;
+    private long rowsSucceeded;
+    private long rowsFailed;
+    private long rowsDuplicate;
+    private double rowsPerSecond;
+    // Estimated from the share of bytes read so far; null until the job is running and has read some input
+    private Long etaSeconds;
+    private String errorMessage;
+    // Present once the job has completed
+    private FileUploadResponse result;
+}
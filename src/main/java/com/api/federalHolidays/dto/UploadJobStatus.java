@@ -0,0 +1,8 @@
+package com.api.federalHolidays.dto;
+
+public enum UploadJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.api.federalHolidays.dto;
+
+public enum UploadMode {
+    // All files one after another in a single transaction
+    SEQUENTIAL,
+    // Files parsed concurrently, each saved in its own transaction; files sharing a country are saved in upload order
+    PARALLEL,
+    // Files one after another, committed every chunk-size rows; a failing chunk is rolled back on its own
+    CHUNKED,
+    // Files one after another in a single transaction; a row on an existing date renames that holiday, rows already present are skipped
+    UPSERT,
+    // Files one after another in a single transaction, loaded through a staging table and validated with set-based SQL
+    STAGED,
+    // Like SEQUENTIAL, but each file is parsed and validated on pool threads while the request thread saves rows
+    PIPELINED
+}
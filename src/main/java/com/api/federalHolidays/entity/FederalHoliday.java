@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 
@@ -12,12 +14,15 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+// The unique constraint is also the (countryCode, holidayDate) index that serves country and date range queries
 @Table(name = "federal_holiday", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"countryCode", "holidayDate"})
+        @UniqueConstraint(name = "uk_federal_holiday_country_date", columnNames = {"countryCode", "holidayDate"})
 })
 public class FederalHoliday {
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts; one sequence call per 50 ids
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "federal_holiday_seq")
+    @SequenceGenerator(name = "federal_holiday_seq", sequenceName = "federal_holiday_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -34,8 +39,11 @@ public class FederalHoliday {
 
     private String dayOfWeek; // Populated by application or trigger
 
-    @ManyToOne
+    // Lazy so holiday reads (which only use the denormalised countryCode/countryName) stay a single select
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "countryCode", referencedColumnName = "countryCode", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Country country;
 
 }
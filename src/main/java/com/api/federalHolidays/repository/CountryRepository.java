@@ -1,21 +1,30 @@
 package com.api.federalHolidays.repository;
 
 import com.api.federalHolidays.entity.Country;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
+// Lookups are served from the second-level query cache; any write to country invalidates them
 public interface CountryRepository extends JpaRepository<Country, String> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Country> findByCountryCode(String countryCode);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByCountryCode(String countryCode);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByCountryName(String countryName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Country> findByCountryName(String countryName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Country> findByCountryCodeAndCountryName(String countryCode, String countryName);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByCountryCodeAndCountryName(String countryCode, String countryName);
 }
-
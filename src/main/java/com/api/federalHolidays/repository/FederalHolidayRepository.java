@@ -1,21 +1,39 @@
 package com.api.federalHolidays.repository;
 
 import com.api.federalHolidays.entity.FederalHoliday;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FederalHolidayRepository extends JpaRepository<FederalHoliday, Long> {
 
+    // all holidays as a cursor-backed stream; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT f FROM FederalHoliday f")
+    Stream<FederalHoliday> streamAll();
+
     // holidays by country code
     List<FederalHoliday> findByCountryCode(String countryCode);
 
+    // holidays of several countries within a date range; sort and limit come from the pageable
+    List<FederalHoliday> findByCountryCodeInAndHolidayDateBetween(Collection<String> countryCodes, LocalDate fromDate, LocalDate toDate, Pageable pageable);
+
+    // dates and names already taken in a country, used to validate uploads in memory
+    @Query("SELECT f.holidayDate AS holidayDate, f.holidayName AS holidayName FROM FederalHoliday f WHERE f.countryCode = :countryCode")
+    List<HolidayKeyView> findHolidayKeysByCountryCode(String countryCode);
+
     // holiday by country code and holiday date
     Optional<FederalHoliday> findByCountryCodeAndHolidayDate(String countryCode, LocalDate holidayDate);
 
@@ -0,0 +1,10 @@
+package com.api.federalHolidays.repository;
+
+import java.time.LocalDate;
+
+// Projection of the columns that make a holiday unique within its country
+public interface HolidayKeyView {
+    LocalDate getHolidayDate();
+
+    String getHolidayName();
+}
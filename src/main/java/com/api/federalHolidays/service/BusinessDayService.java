@@ -0,0 +1,12 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.BusinessDayCountResponse;
+import com.api.federalHolidays.dto.BusinessDayResponse;
+
+public interface BusinessDayService {
+    BusinessDayResponse addBusinessDays(String countryCode, String date, int days);
+
+    BusinessDayCountResponse businessDaysBetween(String countryCode, String fromDate, String toDate);
+
+    BusinessDayResponse nextBusinessDay(String countryCode, String date);
+}
@@ -0,0 +1,97 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.BusinessDayCountResponse;
+import com.api.federalHolidays.dto.BusinessDayResponse;
+import com.api.federalHolidays.exception.CustomException;
+import com.api.federalHolidays.util.DateValidator;
+import com.api.federalHolidays.util.DayBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Business-day arithmetic over the cached {@link CountryCalendar}. A business day is any
+ * Monday to Friday that is not a holiday of the country. Counting and stepping work on the
+ * per-year business-day bitmaps: a step within a year is one select, and whole years in
+ * between are skipped using their precomputed cardinality. Counting does not depend on the
+ * length of the range: weekdays are counted arithmetically and the weekday holidays inside
+ * the range found by binary search.
+ */
+@Service
+public class BusinessDayServiceImpl implements BusinessDayService {
+
+    // Keeps year-by-year skipping bounded (roughly 4,000 years of business days)
+    private static final int MAX_BUSINESS_DAYS = 1_000_000;
+
+    @Autowired
+    private FederalHolidayService federalHolidayService;
+
+    @Override
+    public BusinessDayResponse addBusinessDays(String countryCode, String date, int days) {
+        if (Math.abs((long) days) > MAX_BUSINESS_DAYS) {
+            throw new CustomException("Business days must be between -" + MAX_BUSINESS_DAYS + " and " + MAX_BUSINESS_DAYS + ". Provided: " + days, HttpStatus.BAD_REQUEST);
+        }
+        LocalDate parsedDate = DateValidator.parseDate(date);
+        CountryCalendar calendar = federalHolidayService.getCountryCalendar(countryCode);
+        return new BusinessDayResponse(countryCode, parsedDate, days, addBusinessDays(calendar, parsedDate, days));
+    }
+
+    @Override
+    public BusinessDayCountResponse businessDaysBetween(String countryCode, String fromDate, String toDate) {
+        LocalDate from = DateValidator.parseDate(fromDate);
+        LocalDate to = DateValidator.parseDate(toDate);
+        CountryCalendar calendar = federalHolidayService.getCountryCalendar(countryCode);
+        long count = from.isAfter(to) ? -countBusinessDays(calendar, to, from) : countBusinessDays(calendar, from, to);
+        return new BusinessDayCountResponse(countryCode, from, to, count);
+    }
+
+    @Override
+    public BusinessDayResponse nextBusinessDay(String countryCode, String date) {
+        LocalDate parsedDate = DateValidator.parseDate(date);
+        CountryCalendar calendar = federalHolidayService.getCountryCalendar(countryCode);
+        return new BusinessDayResponse(countryCode, parsedDate, 1, addBusinessDays(calendar, parsedDate, 1));
+    }
+
+    // Business days in [from, to); from must not be after to
+    static long countBusinessDays(CountryCalendar calendar, LocalDate from, LocalDate to) {
+        return calendar.countBusinessDays(from, to);
+    }
+
+    // The n-th business day strictly after (n > 0) or before (n < 0) the date; n == 0 returns the date
+    static LocalDate addBusinessDays(CountryCalendar calendar, LocalDate date, int days) {
+        if (days == 0) {
+            return date;
+        }
+        int year = date.getYear();
+        DayBitmap bitmap = calendar.getBusinessDays(year);
+        if (days > 0) {
+            // date has index dayOfYear - 1, so rank(dayOfYear) counts it and everything before
+            int before = bitmap.rank(date.getDayOfYear());
+            long remaining = days;
+            if (remaining <= bitmap.cardinality() - before) {
+                return bitmap.toDate(bitmap.select((int) (before + remaining - 1)));
+            }
+            remaining -= bitmap.cardinality() - before;
+            bitmap = calendar.getBusinessDays(++year);
+            while (remaining > bitmap.cardinality()) {
+                remaining -= bitmap.cardinality();
+                bitmap = calendar.getBusinessDays(++year);
+            }
+            return bitmap.toDate(bitmap.select((int) (remaining - 1)));
+        }
+        int before = bitmap.rank(date.getDayOfYear() - 1);
+        long remaining = -(long) days;
+        if (remaining <= before) {
+            return bitmap.toDate(bitmap.select((int) (before - remaining)));
+        }
+        remaining -= before;
+        bitmap = calendar.getBusinessDays(--year);
+        while (remaining > bitmap.cardinality()) {
+            remaining -= bitmap.cardinality();
+            bitmap = calendar.getBusinessDays(--year);
+        }
+        return bitmap.toDate(bitmap.select((int) (bitmap.cardinality() - remaining)));
+    }
+}
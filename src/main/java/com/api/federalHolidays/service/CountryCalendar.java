@@ -0,0 +1,148 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FederalHolidayResponse;
+import com.api.federalHolidays.util.DayBitmap;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all holidays stored for a single country.
+ * Instances are built once from the database and shared by every reader until the
+ * country is changed, at which point the snapshot is discarded and rebuilt. The holidays
+ * are held as immutable records, and every call returns new response objects, so a caller
+ * changing what it got back cannot change what other readers see.
+ * Besides the holiday list, the snapshot keeps one {@link DayBitmap} per year so that
+ * "is this date a holiday" is answered with a single bit test, and a business-day bitmap
+ * (weekdays minus holidays) for every year that has holidays. Holidays are also kept sorted
+ * by epoch day so next/previous lookups are a binary search, and the distinct holidays that
+ * fall on a weekday are kept sorted so counting business days over any range is two binary
+ * searches plus weekday arithmetic, however many years the range spans.
+ */
+public final class CountryCalendar {
+
+    private final String countryCode;
+    private final List<Holiday> holidays;
+    private final Map<Integer, DayBitmap> holidaysByYear;
+    private final Map<Integer, DayBitmap> businessDaysByYear;
+    // Parallel arrays ordered by holiday date
+    private final long[] epochDays;
+    private final Holiday[] sortedHolidays;
+    // Distinct Monday to Friday holiday dates, ascending
+    private final long[] weekdayHolidayEpochDays;
+
+    public CountryCalendar(String countryCode, List<FederalHolidayResponse> holidays) {
+        this.countryCode = countryCode;
+        this.holidays = holidays.stream().map(Holiday::of).toList();
+
+        Map<Integer, long[]> words = new HashMap<>();
+        for (Holiday holiday : this.holidays) {
+            LocalDate date = holiday.holidayDate();
+            DayBitmap.set(words.computeIfAbsent(date.getYear(), year -> new long[DayBitmap.WORDS]), date);
+        }
+        Map<Integer, DayBitmap> bitmaps = new HashMap<>();
+        Map<Integer, DayBitmap> businessDays = new HashMap<>();
+        words.forEach((year, yearWords) -> {
+            DayBitmap holidayBitmap = DayBitmap.of(year, yearWords);
+            bitmaps.put(year, holidayBitmap);
+            businessDays.put(year, DayBitmap.weekdays(year).andNot(holidayBitmap));
+        });
+        this.holidaysByYear = Map.copyOf(bitmaps);
+        this.businessDaysByYear = Map.copyOf(businessDays);
+
+        this.sortedHolidays = this.holidays.toArray(new Holiday[0]);
+        Arrays.sort(sortedHolidays, Comparator.comparing(Holiday::holidayDate));
+        this.epochDays = new long[sortedHolidays.length];
+        for (int i = 0; i < sortedHolidays.length; i++) {
+            epochDays[i] = sortedHolidays[i].holidayDate().toEpochDay();
+        }
+        this.weekdayHolidayEpochDays = Arrays.stream(epochDays)
+                .filter(CountryCalendar::isWeekday)
+                .distinct()
+                .toArray();
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public List<FederalHolidayResponse> getHolidays() {
+        return holidays.stream().map(Holiday::toResponse).toList();
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        DayBitmap bitmap = holidaysByYear.get(date.getYear());
+        return bitmap != null && bitmap.get(date.getDayOfYear() - 1);
+    }
+
+    // Holiday bitmap for the year, or null when the country has no holidays in it
+    public DayBitmap getHolidayBitmap(int year) {
+        return holidaysByYear.get(year);
+    }
+
+    // Up to count holidays strictly after the date, earliest first
+    public List<FederalHolidayResponse> nextHolidays(LocalDate date, int count) {
+        int position = Arrays.binarySearch(epochDays, date.toEpochDay());
+        int from = position >= 0 ? position + 1 : -position - 1;
+        int to = (int) Math.min((long) from + count, sortedHolidays.length);
+        return Arrays.stream(sortedHolidays, from, Math.max(from, to)).map(Holiday::toResponse).toList();
+    }
+
+    // Up to count holidays strictly before the date, nearest first
+    public List<FederalHolidayResponse> previousHolidays(LocalDate date, int count) {
+        int position = Arrays.binarySearch(epochDays, date.toEpochDay());
+        int last = position >= 0 ? position - 1 : -position - 2;
+        int size = Math.min(count, last + 1);
+        FederalHolidayResponse[] result = new FederalHolidayResponse[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = sortedHolidays[last - i].toResponse();
+        }
+        return List.of(result);
+    }
+
+    // Days that are neither Saturday, Sunday nor a holiday of this country
+    public DayBitmap getBusinessDays(int year) {
+        DayBitmap businessDays = businessDaysByYear.get(year);
+        return businessDays != null ? businessDays : DayBitmap.weekdays(year);
+    }
+
+    // Business days in [from, to); from must not be after to
+    public long countBusinessDays(LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        return weekdaysBefore(toDay) - weekdaysBefore(fromDay)
+                - (insertionPoint(weekdayHolidayEpochDays, toDay) - insertionPoint(weekdayHolidayEpochDays, fromDay));
+    }
+
+    // Weekdays from Monday 1969-12-29 (epoch day -3) up to, not including, the epoch day; negative before it
+    private static long weekdaysBefore(long epochDay) {
+        long days = epochDay + 3;
+        return Math.floorDiv(days, 7) * 5 + Math.min(Math.floorMod(days, 7), 5);
+    }
+
+    private static boolean isWeekday(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) < 5;
+    }
+
+    // Number of elements lower than the key
+    private static int insertionPoint(long[] sorted, long key) {
+        int position = Arrays.binarySearch(sorted, key);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private record Holiday(Long id, String countryCode, String countryName, LocalDate holidayDate, String holidayName, String message) {
+
+        private static Holiday of(FederalHolidayResponse holiday) {
+            return new Holiday(holiday.getId(), holiday.getCountryCode(), holiday.getCountryName(), holiday.getHolidayDate(),
+                    holiday.getHolidayName(), holiday.getMessage());
+        }
+
+        private FederalHolidayResponse toResponse() {
+            return new FederalHolidayResponse(id, countryCode, countryName, holidayDate, holidayName, message);
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.api.federalHolidays.service;
 
 
+import com.api.federalHolidays.dto.CacheStatsResponse;
+import com.api.federalHolidays.dto.CalendarSetOperation;
+import com.api.federalHolidays.dto.CalendarSetResponse;
 import com.api.federalHolidays.dto.FederalHolidayRequest;
 import com.api.federalHolidays.dto.FederalHolidayResponse;
 import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.HolidayBatchCheckResponse;
+import com.api.federalHolidays.dto.HolidayCheckRequest;
+import com.api.federalHolidays.dto.HolidayCheckResponse;
+import com.api.federalHolidays.dto.SecondLevelCacheStatsResponse;
+import com.api.federalHolidays.dto.UploadMode;
+import org.springframework.data.domain.Sort;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FederalHolidayService {
     List<FederalHolidayResponse> getAllHolidays();
 
+    void streamAllHolidays(Consumer<FederalHolidayResponse> consumer);
+
     List<FederalHolidayResponse> getHolidaysByCountryCode(String countryCode);
 
+    List<FederalHolidayResponse> getHolidaysInRange(List<String> countryCodes, String fromDate, String toDate, int limit, Sort.Direction direction);
+
     FederalHolidayResponse addHoliday(FederalHolidayRequest request);
 
     FederalHolidayResponse updateHolidayByIdAndCountryCode(Long id, String countryCode, FederalHolidayRequest request);
@@ -22,7 +36,30 @@ public interface FederalHolidayService {
 
     FileUploadResponse uploadHolidays(List<MultipartFile> file);
 
+    FileUploadResponse uploadHolidays(List<MultipartFile> files, UploadMode mode);
+
+    FileUploadResponse uploadHolidays(List<UploadSource> sources, UploadMode mode, UploadProgress progress);
+
+    // Sources are read in order while they are iterated, e.g. parts of a request that is still arriving
+    FileUploadResponse uploadStreamedHolidays(Iterable<UploadSource> sources, UploadMode mode, UploadProgress progress);
+
     int deleteByCountryCode(String countryCode);
 
     int deleteByCountryCodeAndHolidayDate(String countryCode, String holidayDate);
+
+    HolidayCheckResponse isHoliday(String countryCode, String date);
+
+    HolidayBatchCheckResponse isHolidayBatch(List<HolidayCheckRequest> checks);
+
+    List<FederalHolidayResponse> getNextHolidays(String countryCode, String date, int count);
+
+    List<FederalHolidayResponse> getPreviousHolidays(String countryCode, String date, int count);
+
+    CalendarSetResponse combineCalendars(List<String> countryCodes, CalendarSetOperation operation, int year);
+
+    CountryCalendar getCountryCalendar(String countryCode);
+
+    CacheStatsResponse getCalendarCacheStats();
+
+    SecondLevelCacheStatsResponse getCountryCacheStats();
 }
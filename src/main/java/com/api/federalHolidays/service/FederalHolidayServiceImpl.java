@@ -1,8 +1,16 @@
 package com.api.federalHolidays.service;
 
+import com.api.federalHolidays.dto.CacheStatsResponse;
+import com.api.federalHolidays.dto.CalendarSetOperation;
+import com.api.federalHolidays.dto.CalendarSetResponse;
 import com.api.federalHolidays.dto.FederalHolidayRequest;
 import com.api.federalHolidays.dto.FederalHolidayResponse;
 import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.HolidayBatchCheckResponse;
+import com.api.federalHolidays.dto.HolidayCheckRequest;
+import com.api.federalHolidays.dto.HolidayCheckResponse;
+import com.api.federalHolidays.dto.SecondLevelCacheStatsResponse;
+import com.api.federalHolidays.dto.UploadMode;
 import com.api.federalHolidays.entity.Country;
 import com.api.federalHolidays.entity.FederalHoliday;
 import com.api.federalHolidays.exception.CustomException;
@@ -11,36 +19,94 @@ import com.api.federalHolidays.exception.ResourceNotFoundException;
 import com.api.federalHolidays.repository.CountryRepository;
 import com.api.federalHolidays.repository.FederalHolidayRepository;
 import com.api.federalHolidays.util.DateValidator;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.api.federalHolidays.util.DayBitmap;
+import com.api.federalHolidays.util.HolidayKeys;
+import com.api.federalHolidays.util.IsoDates;
+import com.api.federalHolidays.util.LongHashSet;
+import com.api.federalHolidays.util.XlsxRowReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.InputStream;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class FederalHolidayServiceImpl implements FederalHolidayService {
 
+    private static final int MAX_BATCH_CHECKS = 100_000;
+
+    private static final int MAX_HOLIDAY_COUNT = 366;
+
+    private static final int MAX_RANGE_COUNTRIES = 100;
+
+    private static final int MAX_RANGE_LIMIT = 10_000;
+
+    private static final int MAX_CALENDAR_COUNTRIES = 250;
+
+    // Full English day names indexed by DayOfWeek.ordinal(), as stored in FederalHoliday.dayOfWeek
+    private static final String[] DAY_OF_WEEK_NAMES = Arrays.stream(DayOfWeek.values())
+            .map(day -> day.getDisplayName(TextStyle.FULL, Locale.ENGLISH))
+            .toArray(String[]::new);
+
     @Autowired
     private FederalHolidayRepository federalHolidayRepository;
 
     @Autowired
     private CountryRepository countryRepository;
 
+    @Autowired
+    private HolidayCalendarCache holidayCalendarCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("uploadExecutor")
+    private Executor uploadExecutor;
+
+    @Autowired
+    private HolidayUpsertWriter holidayUpsertWriter;
+
+    @Autowired
+    private StagedHolidayUploader stagedHolidayUploader;
+
+    @Autowired
+    private UploadReportService uploadReportService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Saved upload rows per flush/clear of the persistence context; 0 disables intermediate flushes
+    @Value("${federal-holidays.upload.batch-size:50}")
+    private int uploadBatchSize;
+
+    // Rows per transaction in CHUNKED upload mode
+    @Value("${federal-holidays.upload.chunk-size:1000}")
+    private int uploadChunkSize;
+
     @Override
     public List<FederalHolidayResponse> getAllHolidays() {
         return federalHolidayRepository.findAll().stream()
@@ -48,15 +114,171 @@ public class FederalHolidayServiceImpl implements FederalHolidayService {
                 .collect(Collectors.toList());
     }
 
+    // Rows are read through a database cursor and detached once handed to the consumer,
+    // so the persistence context does not grow with the size of the table
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllHolidays(Consumer<FederalHolidayResponse> consumer) {
+        try (Stream<FederalHoliday> holidays = federalHolidayRepository.streamAll()) {
+            holidays.forEach(holiday -> {
+                consumer.accept(getHoliday_mapToResponse(holiday));
+                entityManager.detach(holiday);
+            });
+        }
+    }
+
     @Override
     public List<FederalHolidayResponse> getHolidaysByCountryCode(String countryCode) {
-        List<FederalHoliday> holidays = federalHolidayRepository.findByCountryCode(countryCode);
+        return getCountryCalendar(countryCode).getHolidays();
+    }
+
+    @Override
+    public HolidayCheckResponse isHoliday(String countryCode, String date) {
+        LocalDate parsedDate = DateValidator.parseDate(date);
+        boolean holiday = getCountryCalendar(countryCode).isHoliday(parsedDate);
+        return new HolidayCheckResponse(countryCode, parsedDate, holiday);
+    }
+
+    // Each distinct country is resolved once per batch; unknown countries have no holidays
+    @Override
+    public HolidayBatchCheckResponse isHolidayBatch(List<HolidayCheckRequest> checks) {
+        if (checks == null || checks.isEmpty()) {
+            throw new CustomException("At least one country code and date pair is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (checks.size() > MAX_BATCH_CHECKS) {
+            throw new CustomException("A batch may contain at most " + MAX_BATCH_CHECKS + " pairs. Provided: " + checks.size(), HttpStatus.BAD_REQUEST);
+        }
+        Map<String, CountryCalendar> calendars = new HashMap<>();
+        boolean[] holidays = new boolean[checks.size()];
+        int holidayCount = 0;
+        for (int i = 0; i < holidays.length; i++) {
+            HolidayCheckRequest check = checks.get(i);
+            if (check == null || check.getCountryCode() == null || check.getDate() == null) {
+                throw new CustomException("Country code and date are required for every pair. Missing at index: " + i, HttpStatus.BAD_REQUEST);
+            }
+            String countryCode = check.getCountryCode();
+            CountryCalendar calendar = calendars.get(countryCode);
+            if (calendar == null && !calendars.containsKey(countryCode)) {
+                calendar = holidayCalendarCache.get(countryCode, this::loadCountryCalendar);
+                calendars.put(countryCode, calendar);
+            }
+            if (calendar != null && calendar.isHoliday(check.getDate())) {
+                holidays[i] = true;
+                holidayCount++;
+            }
+        }
+        return new HolidayBatchCheckResponse(holidays.length, holidayCount, holidays);
+    }
+
+    @Override
+    public List<FederalHolidayResponse> getNextHolidays(String countryCode, String date, int count) {
+        validateHolidayCount(count);
+        LocalDate parsedDate = DateValidator.parseDate(date);
+        List<FederalHolidayResponse> holidays = getCountryCalendar(countryCode).nextHolidays(parsedDate, count);
         if (holidays.isEmpty()) {
-            throw new CustomException("No holidays found for country code: " + countryCode, HttpStatus.NOT_FOUND);
+            throw new CustomException("No holidays found after " + date + " for country code: " + countryCode, HttpStatus.NOT_FOUND);
+        }
+        return holidays;
+    }
+
+    @Override
+    public List<FederalHolidayResponse> getPreviousHolidays(String countryCode, String date, int count) {
+        validateHolidayCount(count);
+        LocalDate parsedDate = DateValidator.parseDate(date);
+        List<FederalHolidayResponse> holidays = getCountryCalendar(countryCode).previousHolidays(parsedDate, count);
+        if (holidays.isEmpty()) {
+            throw new CustomException("No holidays found before " + date + " for country code: " + countryCode, HttpStatus.NOT_FOUND);
+        }
+        return holidays;
+    }
+
+    private void validateHolidayCount(int count) {
+        if (count < 1 || count > MAX_HOLIDAY_COUNT) {
+            throw new CustomException("Count must be between 1 and " + MAX_HOLIDAY_COUNT + ". Provided: " + count, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Country filter, date range, ordering and limit are all applied by the database
+    @Override
+    public List<FederalHolidayResponse> getHolidaysInRange(List<String> countryCodes, String fromDate, String toDate, int limit, Sort.Direction direction) {
+        if (countryCodes == null || countryCodes.isEmpty()) {
+            throw new CustomException("At least one country code is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (countryCodes.size() > MAX_RANGE_COUNTRIES) {
+            throw new CustomException("At most " + MAX_RANGE_COUNTRIES + " country codes are allowed. Provided: " + countryCodes.size(), HttpStatus.BAD_REQUEST);
+        }
+        if (limit < 1 || limit > MAX_RANGE_LIMIT) {
+            throw new CustomException("Limit must be between 1 and " + MAX_RANGE_LIMIT + ". Provided: " + limit, HttpStatus.BAD_REQUEST);
+        }
+        LocalDate from = DateValidator.parseDate(fromDate);
+        LocalDate to = DateValidator.parseDate(toDate);
+        if (from.isAfter(to)) {
+            throw new CustomException("From date must not be after to date. Provided: " + fromDate + " to " + toDate, HttpStatus.BAD_REQUEST);
+        }
+        PageRequest page = PageRequest.of(0, limit, Sort.by(direction, "holidayDate").and(Sort.by(Sort.Direction.ASC, "countryCode")));
+        List<FederalHoliday> holidays = federalHolidayRepository.findByCountryCodeInAndHolidayDateBetween(Set.copyOf(countryCodes), from, to, page);
+        if (holidays.isEmpty()) {
+            throw new CustomException("No holidays found between " + fromDate + " and " + toDate + " for country codes: " + String.join(",", countryCodes), HttpStatus.NOT_FOUND);
         }
         return holidays.stream().map(this::getHoliday_mapToResponse).toList();
     }
 
+    // Combines the cached per-year holiday bitmaps word by word
+    @Override
+    public CalendarSetResponse combineCalendars(List<String> countryCodes, CalendarSetOperation operation, int year) {
+        if (countryCodes == null || countryCodes.isEmpty()) {
+            throw new CustomException("At least one country code is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (countryCodes.size() > MAX_CALENDAR_COUNTRIES) {
+            throw new CustomException("At most " + MAX_CALENDAR_COUNTRIES + " country codes are allowed. Provided: " + countryCodes.size(), HttpStatus.BAD_REQUEST);
+        }
+        if (operation == null) {
+            throw new CustomException("Set operation is required.", HttpStatus.BAD_REQUEST);
+        }
+        if (year < 1 || year > 9999) {
+            throw new CustomException("Year must be between 1 and 9999. Provided: " + year, HttpStatus.BAD_REQUEST);
+        }
+        DayBitmap result = null;
+        DayBitmap others = DayBitmap.empty(year);
+        for (String countryCode : countryCodes) {
+            DayBitmap holidays = getCountryCalendar(countryCode).getHolidayBitmap(year);
+            if (holidays == null) {
+                holidays = DayBitmap.empty(year);
+            }
+            if (result == null) {
+                result = holidays;
+            } else if (operation == CalendarSetOperation.UNION) {
+                result = result.or(holidays);
+            } else if (operation == CalendarSetOperation.INTERSECTION) {
+                result = result.and(holidays);
+            } else {
+                others = others.or(holidays);
+            }
+        }
+        if (operation == CalendarSetOperation.DIFFERENCE) {
+            result = result.andNot(others);
+        }
+        return new CalendarSetResponse(operation, countryCodes, year, result.cardinality(), result.toDates(), result.toWords());
+    }
+
+    @Override
+    public CacheStatsResponse getCalendarCacheStats() {
+        return holidayCalendarCache.getStats();
+    }
+
+    // Country is the only second-level cached entity, so the global counters are its counters
+    @Override
+    public SecondLevelCacheStatsResponse getCountryCacheStats() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount() + statistics.getQueryCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount() + statistics.getQueryCacheMissCount();
+        double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+        return new SecondLevelCacheStatsResponse(
+                statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(),
+                hitRatio);
+    }
+
     @Transactional
     @Override
     public FederalHolidayResponse addHoliday(FederalHolidayRequest request) {
@@ -65,9 +287,10 @@ public class FederalHolidayServiceImpl implements FederalHolidayService {
         FederalHoliday holiday = new FederalHoliday();
         String message="Holiday added successfully"; // Add the success message
 
-        validateRequest(request, holiday);
+        LocalDate holidayDate = validateRequest(request, holiday);
         //save to entity
-        FederalHoliday savedHoliday = mapToEntityAndSave(request, holiday);
+        FederalHoliday savedHoliday = mapToEntityAndSave(request, holiday, holidayDate);
+        holidayCalendarCache.evictAfterCommit(request.getCountryCode());
         return mapToResponse(savedHoliday,message);
 
     }
@@ -82,7 +305,7 @@ public class FederalHolidayServiceImpl implements FederalHolidayService {
         // Validate country code and name
 
 FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
-
+        holidayCalendarCache.evictAfterCommit(countryCode);
 
         String message="Holiday updated successfully";
         return mapToResponse(updatedHoliday,message);
@@ -99,6 +322,7 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Holiday not found with country code: " + countryCode + " and date: " + holidayDate));
         FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
+        holidayCalendarCache.evictAfterCommit(countryCode);
         String message="Holiday updated successfully";
         return mapToResponse(updatedHoliday, message);
     }
@@ -112,6 +336,7 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
         }
 
         int deleteRecordCount = federalHolidayRepository.deleteByCountryCode(countryCode);
+        holidayCalendarCache.evictAfterCommit(countryCode);
 
         long count = federalHolidayRepository.findByCountryCode(countryCode).size();
 
@@ -136,6 +361,7 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
             throw new CustomException("No holiday found for country code " + countryCode + " on date " + holidayDate, HttpStatus.NOT_FOUND);
         }
         int deleteCount = federalHolidayRepository.deleteByCountryCodeAndHolidayDate(countryCode, parsedHolidayDate);
+        holidayCalendarCache.evictAfterCommit(countryCode);
         long count = federalHolidayRepository.findByCountryCode(countryCode).size();
 
         if (count == 0) {
@@ -147,107 +373,547 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
     @Override
     @Transactional
     public FileUploadResponse uploadHolidays(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return noFilesUploadedResponse();
+        }
+        return uploadSequentially(toUploadSources(files), new UploadProgress());
+    }
+
+    @Override
+    public FileUploadResponse uploadHolidays(List<MultipartFile> files, UploadMode mode) {
+        if (files == null || files.isEmpty()) {
+            return noFilesUploadedResponse();
+        }
+        return uploadHolidays(toUploadSources(files), mode, new UploadProgress());
+    }
+
+    @Override
+    public FileUploadResponse uploadHolidays(List<UploadSource> sources, UploadMode mode, UploadProgress progress) {
+        if (sources == null || sources.isEmpty()) {
+            return noFilesUploadedResponse();
+        }
+        for (UploadSource source : sources) {
+            progress.addTotalBytes(source.getSize());
+        }
+        if (mode == UploadMode.PARALLEL) {
+            return uploadInParallel(sources, progress);
+        }
+        return uploadInOrder(sources, mode, progress);
+    }
+
+    @Override
+    public FileUploadResponse uploadStreamedHolidays(Iterable<UploadSource> sources, UploadMode mode, UploadProgress progress) {
+        if (mode == UploadMode.PARALLEL) {
+            throw new CustomException("PARALLEL mode needs every file before it starts and cannot be used for streamed uploads.", HttpStatus.BAD_REQUEST);
+        }
+        FileUploadResponse response = uploadInOrder(sources, mode, progress);
+        return response.getFileResults().isEmpty() ? noFilesUploadedResponse() : response;
+    }
+
+    // Every mode but PARALLEL reads the files once, one after another, so the sources may be opened as they arrive
+    private FileUploadResponse uploadInOrder(Iterable<UploadSource> sources, UploadMode mode, UploadProgress progress) {
+        if (mode == UploadMode.CHUNKED) {
+            return uploadInChunks(sources, progress);
+        }
+        if (mode == UploadMode.UPSERT) {
+            return transactionTemplate.execute(status -> uploadWithUpsert(sources, progress));
+        }
+        if (mode == UploadMode.PIPELINED) {
+            return transactionTemplate.execute(status -> uploadPipelined(sources, progress));
+        }
+        if (mode == UploadMode.STAGED) {
+            return transactionTemplate.execute(status -> uploadStaged(sources, progress));
+        }
+        return transactionTemplate.execute(status -> uploadSequentially(sources, progress));
+    }
+
+    // Files one after another like the sequential mode, but committed every uploadChunkSize rows
+    private FileUploadResponse uploadInChunks(Iterable<UploadSource> sources, UploadProgress progress) {
         FileUploadResponse response = new FileUploadResponse();
         response.setMessage("Files processed successfully");
-        if (files == null || files.isEmpty()) {
-            response.setMessage("No files uploaded. Please upload at least one file.");
-            return response;
+
+        UploadValidationContext validationContext = new UploadValidationContext(countryRepository, federalHolidayRepository);
+        for (UploadSource source : sources) {
+            response.getFileResults().add(processFileInChunks(source, validationContext, progress));
         }
+        return response;
+    }
 
-        for (MultipartFile file : files) {
-            FileUploadResponse.FileResult fileResult = new FileUploadResponse.FileResult();
-            fileResult.setFileName(file.getOriginalFilename());
+    // Must run inside a transaction. Same row processing as uploadSequentially, but each file is parsed and its
+    // rows' fields validated on uploadExecutor threads while this thread checks countries and saves rows in file order.
+    private FileUploadResponse uploadPipelined(Iterable<UploadSource> sources, UploadProgress progress) {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("Files processed successfully");
 
-            List<FileUploadResponse.FileResult.FailedRecord> failedRecords = new ArrayList<>();
-            List<FileUploadResponse.FileResult.DuplicateRecord> duplicateRecords = new ArrayList<>();
-            Set<String> uniqueKeys = new HashSet<>();
-            int successRecords = 0;
+        UploadValidationContext validationContext = new UploadValidationContext(countryRepository, federalHolidayRepository);
+        for (UploadSource source : sources) {
+            FileUploadState state = new FileUploadState(source.getFileName(), uploadReportService.newReport());
+            UploadPipeline pipeline = new UploadPipeline(uploadExecutor, FederalHolidayServiceImpl::validateUploadFields);
+            try {
+                boolean pipelined = pipeline.run(rowConsumer -> readRows(source, progress, rowConsumer),
+                        (record, fieldOutcome) -> processRecord(record, fieldOutcome, state, validationContext, progress));
+                if (!pipelined) {
+                    // No pool thread was free to parse; the file is processed on this thread instead
+                    readRows(source, progress, record -> processRecord(record, state, validationContext, progress));
+                }
+            } catch (IOException e) {
+                throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            response.getFileResults().add(state.complete());
+        }
+        return response;
+    }
 
+    // Must run inside a transaction; each file goes through the staging table on its own, in upload order
+    private FileUploadResponse uploadStaged(Iterable<UploadSource> sources, UploadProgress progress) {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("Files processed successfully");
+        for (UploadSource source : sources) {
             try {
-                if (file.getOriginalFilename().endsWith(".csv")) {
-                    // Process CSV file
-                    try (Reader reader = new InputStreamReader(file.getInputStream());
-                         CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
-                        for (CSVRecord csvRecord : csvParser) {
-                            processRecord(csvRecord.toList(), fileResult, failedRecords, duplicateRecords, uniqueKeys);
-                        }
+                response.getFileResults().add(stagedHolidayUploader.upload(source.getFileName(), rowConsumer -> readRows(source, progress, rowConsumer), progress));
+            } catch (IOException e) {
+                throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+        return response;
+    }
+
+    // Must run inside a transaction. Valid rows are written uploadBatchSize at a time by HolidayUpsertWriter,
+    // which decides per row in the database whether it is inserted, renames the holiday on its date or is skipped.
+    private FileUploadResponse uploadWithUpsert(Iterable<UploadSource> sources, UploadProgress progress) {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("Files processed successfully");
+
+        UpsertCountries countries = new UpsertCountries();
+        for (UploadSource source : sources) {
+            FileUploadState state = new FileUploadState(source.getFileName(), uploadReportService.newReport());
+            UpsertBatch batch = new UpsertBatch();
+            try {
+                readRows(source, progress, record -> {
+                    FileUploadResponse.FileResult fileResult = state.fileResult;
+                    fileResult.setTotalRecords(fileResult.getTotalRecords() + 1);
+                    RecordOutcome outcome = validateUploadFields(record);
+                    if (outcome == RecordOutcome.OK) {
+                        outcome = countries.check(record);
                     }
-                } else if (file.getOriginalFilename().endsWith(".xlsx")) {
-                    // Process Excel file
-                    try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-                        Sheet sheet = workbook.getSheetAt(0);
-                        for (Row row : sheet) {
-                            if (row.getRowNum() == 0) continue; // Skip header row
-                            List<String> rowData = new ArrayList<>();
-                            for (Cell cell : row) {
-                                if (cell.getCellType() == CellType.NUMERIC && DateUtil.isCellDateFormatted(cell)) {
-                                    // Convert Excel date to LocalDate
-                                    LocalDate date = cell.getDateCellValue().toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-                                    rowData.add(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-                                } else {
-                                    rowData.add(cell.toString());
-                                }
-                            }
-                            processRecord(rowData, fileResult, failedRecords, duplicateRecords, uniqueKeys);
-                        }
+                    if (outcome != RecordOutcome.OK) {
+                        state.addFailedRecord(fileResult.getTotalRecords(), outcome.message(record));
+                        progress.rowFailed();
+                        return;
                     }
-                } else {
-                    throw new CustomException("Unsupported file format. Only CSV and Excel files are allowed.", HttpStatus.BAD_REQUEST);
-                }
+                    // Rows for the same country and date or name go to separate batches so they apply in file order, as row by row
+                    if (!batch.add(record, fileResult.getTotalRecords())) {
+                        writeUpsertBatch(batch, state, progress);
+                        batch.add(record, fileResult.getTotalRecords());
+                    }
+                    if (batch.rows.size() >= Math.max(uploadBatchSize, 1)) {
+                        writeUpsertBatch(batch, state, progress);
+                    }
+                });
             } catch (IOException e) {
                 throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
             }
+            writeUpsertBatch(batch, state, progress);
+            response.getFileResults().add(state.complete());
+        }
+        if (countries.created || response.getFileResults().stream().anyMatch(fileResult -> fileResult.getSuccessRecords() > 0)) {
+            holidayUpsertWriter.evictSecondLevelCacheAfterCommit();
+        }
+        return response;
+    }
+
+    private void writeUpsertBatch(UpsertBatch batch, FileUploadState state, UploadProgress progress) {
+        if (batch.rows.isEmpty()) {
+            return;
+        }
+        FileUploadResponse.FileResult fileResult = state.fileResult;
+        HolidayUpsertWriter.UpsertResult[] results = holidayUpsertWriter.upsert(batch.rows);
+        for (int i = 0; i < results.length; i++) {
+            UploadRecord record = batch.rows.get(i);
+            switch (results[i]) {
+                case INSERTED -> fileResult.setInsertedRecords(fileResult.getInsertedRecords() + 1);
+                case UPDATED -> fileResult.setUpdatedRecords(fileResult.getUpdatedRecords() + 1);
+                case SKIPPED -> {
+                    fileResult.setSkippedRecords(fileResult.getSkippedRecords() + 1);
+                    state.addDuplicateRecord(batch.rowNumbers.get(i), "Skipped: holiday already exists for country code: "
+                            + record.getCountryCode() + " with date: " + record.getHolidayDateText() + " or name: " + record.getHolidayName());
+                    progress.rowDuplicate();
+                    continue;
+                }
+            }
+            fileResult.setSuccessRecords(fileResult.getSuccessRecords() + 1);
+            progress.rowSucceeded();
+            holidayCalendarCache.evictAfterCommit(record.getCountryCode());
+        }
+        batch.clear();
+    }
 
-            //fileResult.setSuccessRecords(successRecords);
-            fileResult.setFailedRecords(failedRecords.size());
-            fileResult.setDuplicateRecords(duplicateRecords.size());
-            fileResult.setFailedRecordsDetails(failedRecords);
-            fileResult.setDuplicateRecordsDetails(duplicateRecords);
+    // Valid rows waiting to be upserted, with their row numbers; holds at most one row per country and date and
+    // one per country and holiday name, since HolidayUpsertWriter runs all of a batch's updates before its inserts
+    private static final class UpsertBatch {
+        private final List<UploadRecord> rows = new ArrayList<>();
+        private final List<Integer> rowNumbers = new ArrayList<>();
+        private final LongHashSet dateKeys = new LongHashSet(64);
+        // Name hashes; a collision only ends the batch early
+        private final LongHashSet nameKeys = new LongHashSet(64);
 
-            response.getFileResults().add(fileResult);
+        // false when the batch already holds a row for the record's country and date or country and name
+        private boolean add(UploadRecord record, int rowNumber) {
+            long countryKey = HolidayKeys.countryKey(record.getCountryCode());
+            long dateKey = HolidayKeys.dateKey(countryKey, record.getHolidayDate());
+            long nameKey = HolidayKeys.nameKey(countryKey, record.getHolidayName());
+            if (dateKeys.contains(dateKey) || nameKeys.contains(nameKey)) {
+                return false;
+            }
+            dateKeys.add(dateKey);
+            nameKeys.add(nameKey);
+            rows.add(record);
+            rowNumbers.add(rowNumber);
+            return true;
+        }
+
+        private void clear() {
+            rows.clear();
+            rowNumbers.clear();
+            dateKeys.clear();
+            nameKeys.clear();
         }
+    }
 
+    // Country checks of the UPSERT mode, one lookup per distinct code and name; new countries are created on first use
+    private final class UpsertCountries {
+        // Country code to its name in the database
+        private final Map<String, String> namesByCode = new HashMap<>();
+        private final Map<String, Boolean> takenNames = new HashMap<>();
+        private boolean created;
+
+        private RecordOutcome check(UploadRecord record) {
+            String existingName = namesByCode.computeIfAbsent(record.getCountryCode(), holidayUpsertWriter::findCountryName);
+            if (existingName == null) {
+                if (takenNames.computeIfAbsent(record.getCountryName(), holidayUpsertWriter::isCountryNameTaken)) {
+                    return RecordOutcome.COUNTRY_CODE_MISMATCH;
+                }
+                existingName = holidayUpsertWriter.createCountry(record.getCountryCode(), record.getCountryName());
+                namesByCode.put(record.getCountryCode(), existingName);
+                takenNames.put(existingName, Boolean.TRUE);
+                created = true;
+            }
+            return existingName.equals(record.getCountryName()) ? RecordOutcome.OK : RecordOutcome.COUNTRY_NAME_MISMATCH;
+        }
+    }
+
+    private static List<UploadSource> toUploadSources(List<MultipartFile> files) {
+        return files.stream().map(UploadSource::of).toList();
+    }
+
+    private static FileUploadResponse noFilesUploadedResponse() {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("No files uploaded. Please upload at least one file.");
         return response;
     }
 
-    private void processRecord(List<String> record, FileUploadResponse.FileResult fileResult, List<FileUploadResponse.FileResult.FailedRecord> failedRecords, List<FileUploadResponse.FileResult.DuplicateRecord> duplicateRecords, Set<String> uniqueKeys) {
-        fileResult.setTotalRecords(fileResult.getTotalRecords() + 1);
+    // Must run inside a transaction
+    private FileUploadResponse uploadSequentially(Iterable<UploadSource> sources, UploadProgress progress) {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("Files processed successfully");
+
+        // Shared by all files: they run in one transaction, so later files see earlier files' rows
+        UploadValidationContext validationContext = new UploadValidationContext(countryRepository, federalHolidayRepository);
+        for (UploadSource source : sources) {
+            response.getFileResults().add(processFile(source.getFileName(), rowConsumer -> readRows(source, progress, rowConsumer), validationContext, progress));
+        }
+
+        return response;
+    }
+
+    // Parses all files concurrently, then saves each file in its own transaction. A file waits for every earlier
+    // file that shares a country code or name, so overlapping files give the same outcome as a sequential upload.
+    private FileUploadResponse uploadInParallel(List<UploadSource> sources, UploadProgress progress) {
+        FileUploadResponse response = new FileUploadResponse();
+        response.setMessage("Files processed successfully");
+        for (UploadSource source : sources) {
+            source.checkSupportedFormat();
+        }
+
+        List<CompletableFuture<List<UploadRecord>>> parsed = new ArrayList<>(sources.size());
+        for (UploadSource source : sources) {
+            parsed.add(CompletableFuture.supplyAsync(() -> {
+                List<UploadRecord> rows = new ArrayList<>();
+                try {
+                    readRows(source, progress, rows::add);
+                } catch (IOException e) {
+                    throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+                }
+                return rows;
+            }, uploadExecutor));
+        }
+
+        Map<String, CompletableFuture<FileUploadResponse.FileResult>> lastWriterByKey = new HashMap<>();
+        List<CompletableFuture<FileUploadResponse.FileResult>> results = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            String fileName = sources.get(i).getFileName();
+            List<UploadRecord> rows = joinUpload(parsed.get(i));
+
+            List<CompletableFuture<FileUploadResponse.FileResult>> predecessors = new ArrayList<>();
+            CompletableFuture<FileUploadResponse.FileResult> result = new CompletableFuture<>();
+            for (String key : countryKeys(rows)) {
+                CompletableFuture<FileUploadResponse.FileResult> previous = lastWriterByKey.put(key, result);
+                if (previous != null && !predecessors.contains(previous)) {
+                    predecessors.add(previous);
+                }
+            }
+            CompletableFuture.allOf(predecessors.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(ignored -> transactionTemplate.execute(status ->
+                            processFile(fileName, rows::forEach, new UploadValidationContext(countryRepository, federalHolidayRepository), progress)), uploadExecutor)
+                    .whenComplete((fileResult, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(fileResult);
+                        }
+                    });
+            results.add(result);
+        }
+
+        for (CompletableFuture<FileUploadResponse.FileResult> result : results) {
+            response.getFileResults().add(joinUpload(result));
+        }
+        return response;
+    }
+
+    // Country codes and names a file's rows refer to; files sharing any of them must not be saved concurrently
+    private static Set<String> countryKeys(List<UploadRecord> rows) {
+        Set<String> keys = new HashSet<>();
+        for (UploadRecord row : rows) {
+            if (row.getCountryCode() != null) {
+                keys.add("code:" + row.getCountryCode());
+            }
+            if (row.getCountryName() != null) {
+                keys.add("name:" + row.getCountryName());
+            }
+        }
+        return keys;
+    }
+
+    // Waits for an upload task and rethrows its failure as thrown by the sequential path
+    private static <T> T joinUpload(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private FileUploadResponse.FileResult processFile(String fileName, RowSource rowSource, UploadValidationContext validationContext, UploadProgress progress) {
+        FileUploadState state = new FileUploadState(fileName, uploadReportService.newReport());
+        try {
+            rowSource.read(record -> processRecord(record, state, validationContext, progress));
+        } catch (IOException e) {
+            throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return state.complete();
+    }
+
+    // Saves a file in transactions of uploadChunkSize rows. A chunk whose transaction fails is rolled back on its own:
+    // its rows are reported as failed and the rows of earlier and later chunks are unaffected.
+    private FileUploadResponse.FileResult processFileInChunks(UploadSource source, UploadValidationContext validationContext, UploadProgress progress) {
+        FileUploadState state = new FileUploadState(source.getFileName(), uploadReportService.newReport());
+        List<FileUploadResponse.FileResult.ChunkResult> chunkResults = new ArrayList<>();
+        List<UploadRecord> chunk = new ArrayList<>(uploadChunkSize);
+        try {
+            readRows(source, progress, record -> {
+                chunk.add(record);
+                if (chunk.size() == uploadChunkSize) {
+                    chunkResults.add(processChunk(chunk, chunkResults.size() + 1, state, validationContext, progress));
+                    chunk.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new CustomException("Failed to process the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        if (!chunk.isEmpty()) {
+            chunkResults.add(processChunk(chunk, chunkResults.size() + 1, state, validationContext, progress));
+        }
+        FileUploadResponse.FileResult fileResult = state.complete();
+        fileResult.setChunkResults(chunkResults);
+        return fileResult;
+    }
+
+    private FileUploadResponse.FileResult.ChunkResult processChunk(List<UploadRecord> rows, int chunkNumber, FileUploadState state,
+                                                                   UploadValidationContext validationContext, UploadProgress progress) {
+        FileUploadResponse.FileResult fileResult = state.fileResult;
+        int successBefore = fileResult.getSuccessRecords();
+        UploadReport.Mark mark = state.report.mark();
+
+        FileUploadResponse.FileResult.ChunkResult chunkResult = new FileUploadResponse.FileResult.ChunkResult();
+        chunkResult.setChunkNumber(chunkNumber);
+        chunkResult.setFirstRow(fileResult.getTotalRecords() + 1);
+        chunkResult.setLastRow(fileResult.getTotalRecords() + rows.size());
         try {
-// Check if the row has the expected number of columns
-            if (record.size() < 4) {
-                throw new CustomException("Row has missing data. Expected 4 columns, found " + record.size(), HttpStatus.BAD_REQUEST);
-            }
-            FederalHolidayRequest request = new FederalHolidayRequest();
-            request.setCountryCode(record.get(0).trim());
-            request.setCountryName(record.get(1).trim());
-            request.setHolidayDate(record.get(2).trim());
-            request.setHolidayName(record.get(3).trim());
-
-            /*//validateField null,empty, blank
-            validateField(request.getCountryCode(), "Country code");
-            validateField(request.getCountryName(), "Country name");
-            validateField(request.getHolidayDate(), "Holiday date");
-            validateField(request.getHolidayName(), "Holiday name");*/
+            transactionTemplate.executeWithoutResult(status -> {
+                for (UploadRecord record : rows) {
+                    processRecord(record, state, validationContext, progress);
+                }
+                // Write and detach the chunk's entities before commit so the next chunk starts with an empty context
+                flushUploadBatch();
+            });
+            chunkResult.setCommitted(true);
+        } catch (RuntimeException e) {
+            // Nothing from this chunk was saved: drop its outcomes and report every row as failed
+            int rolledBackSuccess = fileResult.getSuccessRecords() - successBefore;
+            int rolledBackDuplicate = state.report.getDuplicateCount() - mark.duplicateCount();
+            fileResult.setSuccessRecords(successBefore);
+            state.report.rollbackTo(mark);
+            for (int row = chunkResult.getFirstRow(); row <= chunkResult.getLastRow(); row++) {
+                state.addFailedRecord(row, "Chunk " + chunkNumber + " rolled back: " + e.getMessage());
+            }
+            progress.rowsRolledBack(rolledBackSuccess, rolledBackDuplicate);
+            // The in-memory view may contain rows and countries that were never committed
+            validationContext.reset();
+            chunkResult.setCommitted(false);
+            chunkResult.setErrorMessage(e.getMessage());
+        }
+        chunkResult.setSuccessRecords(fileResult.getSuccessRecords() - successBefore);
+        chunkResult.setFailedRecords(state.report.getFailedCount() - mark.failedCount());
+        chunkResult.setDuplicateRecords(state.report.getDuplicateCount() - mark.duplicateCount());
+        return chunkResult;
+    }
+
+    // Per-file result being built while rows are processed; rejected rows go to the file's report
+    private static final class FileUploadState {
+        private final FileUploadResponse.FileResult fileResult = new FileUploadResponse.FileResult();
+        private final UploadReport report;
+
+        private FileUploadState(String fileName, UploadReport report) {
+            fileResult.setFileName(fileName);
+            this.report = report;
+        }
+
+        private void addFailedRecord(int rowNumber, String errorMessage) {
+            report.addFailedRecord(rowNumber, errorMessage);
+        }
+
+        private void addDuplicateRecord(int rowNumber, String errorMessage) {
+            report.addDuplicateRecord(rowNumber, errorMessage);
+        }
+
+        private FileUploadResponse.FileResult complete() {
+            report.complete(fileResult);
+            return fileResult;
+        }
+    }
+
+    // Passes each data row of a CSV or Excel file to the consumer, header excluded
+    private void readRows(UploadSource source, UploadProgress progress, Consumer<UploadRecord> rowConsumer) throws IOException {
+        source.checkSupportedFormat();
+        Consumer<UploadRecord> countingConsumer = record -> {
+            progress.rowParsed();
+            rowConsumer.accept(record);
+        };
+        if (source.isCsv()) {
+            // Process CSV file; memory-mapped when the source has a path, i.e. a spooled job file
+            if (source.getPath() != null) {
+                HolidayCsvParser.parse(source.getPath(), countingConsumer, progress::addBytesRead);
+            } else {
+                try (InputStream inputStream = progress.track(source.openStream())) {
+                    HolidayCsvParser.parse(inputStream, countingConsumer);
+                }
+            }
+        } else {
+            // Process Excel file, streaming the first sheet row by row. Progress is the rows parsed: the zip
+            // is read out of order, and a stream is copied to disk in full before its first row is read, so
+            // the file's bytes are only counted as read once the sheet is done
+            Consumer<List<String>> excelRowConsumer = row -> countingConsumer.accept(UploadRecord.of(row));
+            if (source.getPath() != null) {
+                XlsxRowReader.read(source.getPath().toFile(), excelRowConsumer);
+                progress.addBytesRead(source.getSize());
+            } else {
+                UploadProgress excelBytes = new UploadProgress();
+                try (InputStream inputStream = excelBytes.track(source.openStream())) {
+                    XlsxRowReader.read(inputStream, excelRowConsumer);
+                }
+                progress.addBytesRead(excelBytes.getBytesRead());
+            }
+        }
+    }
+
+    private void processRecord(UploadRecord record, FileUploadState state, UploadValidationContext validationContext, UploadProgress progress) {
+        processRecord(record, validateUploadFields(record), state, validationContext, progress);
+    }
 
+    // fieldOutcome is the result of validateUploadFields for the record, which may have been computed on another thread
+    private void processRecord(UploadRecord record, RecordOutcome fieldOutcome, FileUploadState state,
+                               UploadValidationContext validationContext, UploadProgress progress) {
+        FileUploadResponse.FileResult fileResult = state.fileResult;
+        fileResult.setTotalRecords(fileResult.getTotalRecords() + 1);
+        RecordOutcome outcome;
+        try {
             FederalHoliday holiday = new FederalHoliday();
-            validateRequest(request, holiday);
-            mapToEntityAndSave(request, holiday);
+            outcome = validateUploadRecord(record, fieldOutcome, holiday, validationContext);
+            if (outcome == RecordOutcome.OK) {
+                saveUploadedHoliday(record, holiday);
+                validationContext.getCountry(record.getCountryCode()).holidaySaved(holiday.getHolidayDate(), holiday.getHolidayName());
+                holidayCalendarCache.evictAfterCommit(record.getCountryCode());
+            }
+        } catch (RuntimeException e) {
+            state.addFailedRecord(fileResult.getTotalRecords(), e.getMessage());
+            progress.rowFailed();
+            return;
+        }
 
+        if (outcome == RecordOutcome.OK) {
             // Increment success records
             fileResult.setSuccessRecords(fileResult.getSuccessRecords() + 1);
-        } catch (Exception e) {
-            if (e.getMessage().contains("Duplicate")) {
-                FileUploadResponse.FileResult.DuplicateRecord duplicateRecord = new FileUploadResponse.FileResult.DuplicateRecord();
-                duplicateRecord.setRowNumber(fileResult.getTotalRecords());
-                duplicateRecord.setErrorMessage(e.getMessage());
-                duplicateRecords.add(duplicateRecord);
-            } else {
-                FileUploadResponse.FileResult.FailedRecord failedRecord = new FileUploadResponse.FileResult.FailedRecord();
-                failedRecord.setRowNumber(fileResult.getTotalRecords());
-                failedRecord.setErrorMessage(e.getMessage());
-                failedRecords.add(failedRecord);
+            progress.rowSucceeded();
+            if (uploadBatchSize > 0 && fileResult.getSuccessRecords() % uploadBatchSize == 0) {
+                // Not a failure of this row: a failed flush fails the whole transaction, see flushUploadBatch
+                flushUploadBatch();
             }
+        } else if (outcome.isDuplicate()) {
+            state.addDuplicateRecord(fileResult.getTotalRecords(), outcome.message(record));
+            progress.rowDuplicate();
+        } else {
+            state.addFailedRecord(fileResult.getTotalRecords(), outcome.message(record));
+            progress.rowFailed();
+        }
+    }
+
+    // Sends the pending inserts as one JDBC batch and detaches them so the persistence context stays small.
+    // A constraint violation here, e.g. a holiday saved meanwhile by a concurrent upload of the same country,
+    // leaves the transaction rollback-only, so none of its rows can be kept: the upload (or, in CHUNKED mode,
+    // the chunk) fails as a whole instead of the violation being blamed on a single row.
+    private void flushUploadBatch() {
+        try {
+            federalHolidayRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException("Duplicate Record: a holiday saved by another upload conflicts with this upload. No rows of this transaction were saved.", HttpStatus.CONFLICT);
+        }
+        entityManager.clear();
+    }
+
+    @Override
+    public CountryCalendar getCountryCalendar(String countryCode) {
+        CountryCalendar calendar = holidayCalendarCache.get(countryCode, this::loadCountryCalendar);
+        if (calendar == null) {
+            throw new CustomException("No holidays found for country code: " + countryCode, HttpStatus.NOT_FOUND);
+        }
+        return calendar;
+    }
+
+    // Builds the cached snapshot for a country; returns null when the country has no holidays
+    private CountryCalendar loadCountryCalendar(String countryCode) {
+        List<FederalHoliday> holidays = federalHolidayRepository.findByCountryCode(countryCode);
+        if (holidays.isEmpty()) {
+            return null;
         }
+        return new CountryCalendar(countryCode, holidays.stream().map(this::getHoliday_mapToResponse).toList());
     }
 
     private void getOrCreateCountry(FederalHoliday holiday, String countryCode, String countryName) {
@@ -267,15 +933,100 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
             }
 
             // Save the country if it doesn't exist
-            Country country = new Country();
-            country.setCountryCode(countryCode);
-            country.setCountryName(countryName);
-            countryRepository.save(country);
-            holiday.setCountry(country);
+            createCountry(holiday, countryCode, countryName);
         }
     }
 
-    private void validateRequest(FederalHolidayRequest request, FederalHoliday holiday) {
+    private Country createCountry(FederalHoliday holiday, String countryCode, String countryName) {
+        Country country = new Country();
+        country.setCountryCode(countryCode);
+        country.setCountryName(countryName);
+        countryRepository.save(country);
+        holiday.setCountry(country);
+        return country;
+    }
+
+    // Returns the validated holiday date
+    private LocalDate validateRequest(FederalHolidayRequest request, FederalHoliday holiday) {
+        LocalDate holidayDate = validateRequestFields(request);
+
+        //get or create new country
+        getOrCreateCountry(holiday, request.getCountryCode(), request.getCountryName());
+        // Validate unique constraints
+        if (federalHolidayRepository.existsByCountryCodeAndHolidayDate(request.getCountryCode(), holidayDate)) {
+            throw new CustomException("Duplicate holiday record for country code: " + request.getCountryCode() + " and date: " + request.getHolidayDate(),HttpStatus.CONFLICT);
+        }
+        // Check for duplicate records
+        if (federalHolidayRepository.existsByCountryCodeAndHolidayName(request.getCountryCode(), request.getHolidayName())) {
+            throw new CustomException("Duplicate holiday record for country code: " + request.getCountryCode() + " and name: " + request.getHolidayName(),HttpStatus.CONFLICT);
+        }
+        return holidayDate;
+    }
+
+    // Same rules as validateRequest, checked against the upload's in-memory country state. Problems are
+    // returned as outcome codes rather than thrown, since a re-uploaded file can reject nearly every row.
+    // Continues from the row's validateUploadFields outcome and sets the holiday date on the entity.
+    private RecordOutcome validateUploadRecord(UploadRecord record, RecordOutcome fieldOutcome, FederalHoliday holiday,
+                                               UploadValidationContext validationContext) {
+        if (fieldOutcome != RecordOutcome.OK) {
+            return fieldOutcome;
+        }
+        LocalDate holidayDate = record.getHolidayDate();
+        holiday.setHolidayDate(holidayDate);
+
+        UploadValidationContext.CountryState countryState = validationContext.getCountry(record.getCountryCode());
+        Country existingCountry = countryState.getCountry();
+        if (existingCountry != null) {
+            if (!existingCountry.getCountryName().equals(record.getCountryName())) {
+                return RecordOutcome.COUNTRY_NAME_MISMATCH;
+            }
+        } else {
+            if (validationContext.isCountryNameTaken(record.getCountryName())) {
+                return RecordOutcome.COUNTRY_CODE_MISMATCH;
+            }
+            validationContext.countryCreated(createCountry(holiday, record.getCountryCode(), record.getCountryName()));
+        }
+        if (countryState.hasHolidayDate(holidayDate)) {
+            return RecordOutcome.DUPLICATE_DATE;
+        }
+        if (countryState.hasHolidayName(record.getHolidayName())) {
+            return RecordOutcome.DUPLICATE_NAME;
+        }
+        return RecordOutcome.OK;
+    }
+
+    // Column count, required fields, country code format and holiday date; no database access
+    private static RecordOutcome validateUploadFields(UploadRecord record) {
+        // Check if the row has the expected number of columns
+        if (record.getColumnCount() < 4) {
+            return RecordOutcome.MISSING_COLUMNS;
+        }
+        if (record.getCountryCode().isEmpty()) {
+            return RecordOutcome.MISSING_COUNTRY_CODE;
+        }
+        if (record.getCountryName().isEmpty()) {
+            return RecordOutcome.MISSING_COUNTRY_NAME;
+        }
+        if (record.getHolidayName().isEmpty()) {
+            return RecordOutcome.MISSING_HOLIDAY_NAME;
+        }
+        //Validate Country code format
+        if (HolidayKeys.countryKey(record.getCountryCode()) < 0) {
+            return RecordOutcome.BAD_COUNTRY_CODE;
+        }
+        // valid holiday date format & current year; readers may have parsed the date already
+        LocalDate holidayDate = record.getHolidayDate();
+        if (holidayDate == null) {
+            return RecordOutcome.BAD_DATE;
+        }
+        if (!IsoDates.isCurrentYear(holidayDate)) {
+            return RecordOutcome.DATE_NOT_CURRENT_YEAR;
+        }
+        return RecordOutcome.OK;
+    }
+
+    // Required fields, country code format and holiday date; no database access
+    private LocalDate validateRequestFields(FederalHolidayRequest request) {
 
         if (request.getCountryCode() == null || request.getCountryCode().trim().isEmpty()) {
                 throw new CustomException("Country code is required.",HttpStatus.BAD_REQUEST);
@@ -295,23 +1046,22 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
             throw new CustomException("Country code must be 1 to 3 alphanumeric characters. Provided: " + request.getCountryCode() + ".", HttpStatus.BAD_REQUEST);
         }
         // valid holiday date format & current year
-        LocalDate holidayDate = DateValidator.validateAndParseDate(request.getHolidayDate());
+        return DateValidator.validateAndParseDate(request.getHolidayDate());
+    }
 
-        //get or create new country
-        getOrCreateCountry(holiday, request.getCountryCode(), request.getCountryName());
-        // Validate unique constraints
-        if (federalHolidayRepository.existsByCountryCodeAndHolidayDate(request.getCountryCode(), holidayDate)) {
-            throw new CustomException("Duplicate holiday record for country code: " + request.getCountryCode() + " and date: " + request.getHolidayDate(),HttpStatus.CONFLICT);
-        }
-        // Check for duplicate records
-        if (federalHolidayRepository.existsByCountryCodeAndHolidayName(request.getCountryCode(), request.getHolidayName())) {
-            throw new CustomException("Duplicate holiday record for country code: " + request.getCountryCode() + " and name: " + request.getHolidayName(),HttpStatus.CONFLICT);
-        }
+    // Upload counterpart of mapToEntityAndSave; the holiday date was set during validation. The insert is only
+    // sent at the next flush, so a constraint violation surfaces there, see flushUploadBatch, not here.
+    private void saveUploadedHoliday(UploadRecord record, FederalHoliday holiday) {
+        holiday.setCountryCode(record.getCountryCode());
+        holiday.setCountryName(record.getCountryName());
+        holiday.setHolidayName(record.getHolidayName());
+        holiday.setDayOfWeek(DAY_OF_WEEK_NAMES[holiday.getHolidayDate().getDayOfWeek().ordinal()]);
+        federalHolidayRepository.save(holiday);
     }
 
-    private FederalHoliday mapToEntityAndSave(FederalHolidayRequest request, FederalHoliday holiday) {
+    // holidayDate is the request's date as already validated by the caller
+    private FederalHoliday mapToEntityAndSave(FederalHolidayRequest request, FederalHoliday holiday, LocalDate holidayDate) {
         FederalHoliday savedHoliday;
-        LocalDate holidayDate = DateValidator.validateAndParseDate(request.getHolidayDate());
         holiday.setCountryCode(request.getCountryCode());
         holiday.setCountryName(request.getCountryName());
         holiday.setHolidayName(request.getHolidayName());
@@ -424,7 +1174,7 @@ FederalHoliday updatedHoliday = validateUpdateRequest(existingHoliday, request);
             }
             existingHoliday.setHolidayDate(newHolidayDate);
         }
-        mapToEntityAndSave(request, existingHoliday);
+        mapToEntityAndSave(request, existingHoliday, newHolidayDate);
         return existingHoliday;
     }
 
@@ -0,0 +1,109 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.CacheStatsResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of {@link CountryCalendar} snapshots keyed by country code.
+ * Snapshots are never modified in place: writers evict the country once their
+ * transaction completes and the next reader loads a fresh snapshot. Countries without
+ * holidays are cached too, as a negative entry, so unknown codes do not reach the
+ * database on every request.
+ */
+@Component
+public class HolidayCalendarCache {
+
+    // Countries without holidays are only remembered while the cache is smaller than this, so lookups of
+    // arbitrary codes cannot grow it without bound
+    static final int NEGATIVE_ENTRY_LIMIT = 10_000;
+
+    // Cached for countries without holidays; never handed out
+    private static final CountryCalendar NO_HOLIDAYS = new CountryCalendar("", List.of());
+
+    private final ConcurrentHashMap<String, CountryCalendar> calendars = new ConcurrentHashMap<>();
+
+    // Bumped for a country on each of its evictions, so a load of that country that raced with a write is not
+    // installed. Loads of other countries are unaffected. Only changed under the country's lock in calendars.
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Returns the cached calendar, or loads it; null when the country has no holidays
+    public CountryCalendar get(String countryCode, Function<String, CountryCalendar> loader) {
+        CountryCalendar cached = calendars.get(countryCode);
+        if (cached != null) {
+            hits.increment();
+            return cached == NO_HOLIDAYS ? null : cached;
+        }
+        misses.increment();
+        Long loadVersion = versions.get(countryCode);
+        CountryCalendar loaded = loader.apply(countryCode);
+        CountryCalendar entry = loaded != null ? loaded : NO_HOLIDAYS;
+        if (entry == NO_HOLIDAYS && calendars.size() >= NEGATIVE_ENTRY_LIMIT) {
+            return null;
+        }
+        CountryCalendar installed = calendars.compute(countryCode, (code, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return Objects.equals(versions.get(code), loadVersion) ? entry : null;
+        });
+        if (installed == null) {
+            return loaded;
+        }
+        return installed == NO_HOLIDAYS ? null : installed;
+    }
+
+    public void evict(String countryCode) {
+        calendars.compute(countryCode, (code, existing) -> {
+            versions.merge(code, 1L, Long::sum);
+            if (existing != null) {
+                evictions.increment();
+            }
+            return null;
+        });
+    }
+
+    // Evicts once the surrounding transaction has completed, or immediately when there is none
+    public void evictAfterCommit(String countryCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(countryCode);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> countryCodes = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, countryCodes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(HolidayCalendarCache.this);
+                    countryCodes.forEach(HolidayCalendarCache.this::evict);
+                }
+            });
+            pending = countryCodes;
+        }
+        pending.add(countryCode);
+    }
+
+    public CacheStatsResponse getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        double hitRatio = requests == 0 ? 0.0 : (double) hitCount / requests;
+        return new CacheStatsResponse(hitCount, missCount, evictions.sum(), calendars.size(), hitRatio);
+    }
+}
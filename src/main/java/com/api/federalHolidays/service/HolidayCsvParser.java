@@ -0,0 +1,286 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.util.IsoDates;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * CSV reader for the fixed upload layout (countryCode, countryName, holidayDate, holidayName)
+ * that works on bytes rather than characters. It follows the same rules as the commons-csv
+ * DEFAULT format used before: comma separated, fields optionally enclosed in double quotes
+ * with "" as an escaped quote, line breaks allowed inside quotes, empty lines skipped and the
+ * first record treated as the header. Fields are trimmed like the upload path always did.
+ * Like commons-csv, anything but whitespace between a closing quote and the next delimiter,
+ * and a quote left open at the end of the input, fail the file with an IOException.
+ *
+ * The holiday date is parsed straight from its bytes. Country codes and names are compared
+ * with the previous row's bytes and reuse its strings, so typical files sorted by country
+ * only create strings for holiday names. Input is fed in buffers, so a field may span the
+ * boundary between two buffers.
+ */
+public final class HolidayCsvParser {
+
+    private static final int COLUMNS = 4;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Mapped files are fed in slices so progress can be reported while parsing
+    private static final int MAPPED_SLICE_SIZE = 1024 * 1024;
+
+    private enum State { FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED, AFTER_QUOTED }
+
+    private final Consumer<UploadRecord> recordConsumer;
+
+    private final byte[][] fields = new byte[COLUMNS][64];
+    private final int[] lengths = new int[COLUMNS];
+    private int fieldIndex;
+    private State state = State.FIELD_START;
+    // For error messages: the current line, and the one the open quoted field started on
+    private long lineNumber = 1;
+    private long quoteLineNumber;
+    private boolean recordStarted;
+    private boolean skipLineFeed;
+    private boolean headerSkipped;
+
+    private byte[] lastCountryCode = new byte[0];
+    private String lastCountryCodeText;
+    private byte[] lastCountryName = new byte[0];
+    private String lastCountryNameText;
+
+    public HolidayCsvParser(Consumer<UploadRecord> recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    // Memory-maps the file; bytesRead is told how many bytes have been consumed after every slice
+    public static void parse(Path path, Consumer<UploadRecord> recordConsumer, LongConsumer bytesRead) throws IOException {
+        HolidayCsvParser parser = new HolidayCsvParser(recordConsumer);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; ) {
+                // A single mapping is limited to 2 GB
+                long length = Math.min(size - position, Integer.MAX_VALUE);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                while (mapped.hasRemaining()) {
+                    int sliceLength = Math.min(mapped.remaining(), MAPPED_SLICE_SIZE);
+                    ByteBuffer slice = mapped.slice(mapped.position(), sliceLength);
+                    parser.feed(slice);
+                    mapped.position(mapped.position() + sliceLength);
+                    bytesRead.accept(sliceLength);
+                }
+                position += length;
+            }
+        }
+        parser.finish();
+    }
+
+    public static void parse(InputStream inputStream, Consumer<UploadRecord> recordConsumer) throws IOException {
+        HolidayCsvParser parser = new HolidayCsvParser(recordConsumer);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        int n;
+        while ((n = inputStream.read(buffer)) != -1) {
+            wrapped.clear().limit(n);
+            parser.feed(wrapped);
+        }
+        parser.finish();
+    }
+
+    public void feed(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    continue;
+                }
+            }
+            switch (state) {
+                case FIELD_START:
+                    if (b == '"') {
+                        recordStarted = true;
+                        quoteLineNumber = lineNumber;
+                        state = State.QUOTED;
+                    } else if (b == ',') {
+                        recordStarted = true;
+                        endField();
+                    } else if (b == '\n' || b == '\r') {
+                        endLine(b);
+                    } else {
+                        recordStarted = true;
+                        append(b);
+                        state = State.UNQUOTED;
+                    }
+                    break;
+                case UNQUOTED:
+                    if (b == ',') {
+                        endField();
+                        state = State.FIELD_START;
+                    } else if (b == '\n' || b == '\r') {
+                        endLine(b);
+                    } else {
+                        append(b);
+                    }
+                    break;
+                case QUOTED:
+                    if (b == '"') {
+                        state = State.QUOTE_IN_QUOTED;
+                    } else {
+                        if (b == '\n') {
+                            lineNumber++;
+                        }
+                        append(b);
+                    }
+                    break;
+                case QUOTE_IN_QUOTED:
+                    if (b == '"') {
+                        // Escaped quote
+                        append(b);
+                        state = State.QUOTED;
+                    } else if (b == ',') {
+                        endField();
+                        state = State.FIELD_START;
+                    } else if (b == '\n' || b == '\r') {
+                        endLine(b);
+                    } else {
+                        afterClosingQuote(b);
+                        state = State.AFTER_QUOTED;
+                    }
+                    break;
+                case AFTER_QUOTED:
+                    if (b == ',') {
+                        endField();
+                        state = State.FIELD_START;
+                    } else if (b == '\n' || b == '\r') {
+                        endLine(b);
+                    } else {
+                        afterClosingQuote(b);
+                    }
+                    break;
+            }
+        }
+    }
+
+    // Whitespace between a closing quote and the delimiter is ignored, anything else is an error
+    private void afterClosingQuote(byte b) throws IOException {
+        if (b != ' ' && b != '\t' && b != '\f' && b != 0x0B) {
+            throw new IOException("(line " + lineNumber + ") invalid char between encapsulated token and delimiter");
+        }
+    }
+
+    // Emits a last record that is not followed by a line break
+    public void finish() throws IOException {
+        if (state == State.QUOTED) {
+            throw new IOException("(startline " + quoteLineNumber + ") EOF reached before encapsulated token finished");
+        }
+        if (recordStarted) {
+            endRecord();
+        }
+        state = State.FIELD_START;
+    }
+
+    private void append(byte b) {
+        if (fieldIndex >= COLUMNS) {
+            return; // Extra columns are ignored
+        }
+        byte[] field = fields[fieldIndex];
+        int length = lengths[fieldIndex];
+        if (length == field.length) {
+            field = Arrays.copyOf(field, length * 2);
+            fields[fieldIndex] = field;
+        }
+        field[length] = b;
+        lengths[fieldIndex] = length + 1;
+    }
+
+    private void endField() {
+        fieldIndex++;
+    }
+
+    private void endLine(byte lineBreak) {
+        skipLineFeed = lineBreak == '\r';
+        lineNumber++;
+        state = State.FIELD_START;
+        // Empty lines are skipped
+        if (recordStarted) {
+            endRecord();
+        }
+    }
+
+    private void endRecord() {
+        int columnCount = fieldIndex + 1;
+        if (!headerSkipped) {
+            headerSkipped = true;
+        } else {
+            String countryCode = columnCount > 0 ? countryCode() : null;
+            String countryName = columnCount > 1 ? countryName() : null;
+            LocalDate holidayDate = null;
+            String holidayDateText = null;
+            if (columnCount > 2) {
+                // Strict yyyy-MM-dd; anything else is validated from its text
+                holidayDate = IsoDates.parse(fields[2], trimStart(2), trimEnd(2));
+                if (holidayDate == null) {
+                    holidayDateText = text(2);
+                }
+            }
+            String holidayName = columnCount > 3 ? text(3) : null;
+            recordConsumer.accept(new UploadRecord(columnCount, countryCode, countryName, holidayDateText, holidayDate, holidayName));
+        }
+        Arrays.fill(lengths, 0);
+        fieldIndex = 0;
+        recordStarted = false;
+    }
+
+    private String countryCode() {
+        int start = trimStart(0);
+        int end = trimEnd(0);
+        if (lastCountryCodeText == null || !Arrays.equals(fields[0], start, end, lastCountryCode, 0, lastCountryCode.length)) {
+            lastCountryCode = Arrays.copyOfRange(fields[0], start, end);
+            lastCountryCodeText = new String(lastCountryCode, StandardCharsets.UTF_8);
+        }
+        return lastCountryCodeText;
+    }
+
+    private String countryName() {
+        int start = trimStart(1);
+        int end = trimEnd(1);
+        if (lastCountryNameText == null || !Arrays.equals(fields[1], start, end, lastCountryName, 0, lastCountryName.length)) {
+            lastCountryName = Arrays.copyOfRange(fields[1], start, end);
+            lastCountryNameText = new String(lastCountryName, StandardCharsets.UTF_8);
+        }
+        return lastCountryNameText;
+    }
+
+    private String text(int column) {
+        int start = trimStart(column);
+        return new String(fields[column], start, trimEnd(column) - start, StandardCharsets.UTF_8);
+    }
+
+    // Same characters as String.trim(): anything up to and including space
+    private int trimStart(int column) {
+        byte[] field = fields[column];
+        int start = 0;
+        int end = lengths[column];
+        while (start < end && (field[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int column) {
+        byte[] field = fields[column];
+        int end = lengths[column];
+        while (end > 0 && (field[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        return Math.max(end, trimStart(column));
+    }
+}
@@ -0,0 +1,167 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.entity.Country;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JDBC writer behind the UPSERT upload mode. A batch of rows locks its country rows
+ * (SELECT ... FOR UPDATE) and is then written with two batched statements, each of which
+ * decides per row in the database instead of looking rows up first:
+ *
+ * 1. UPDATE the name of the holiday already on the row's (country code, date), unless it already
+ *    has that name or the name is used on another date of the country.
+ * 2. INSERT the row unless the country already has a holiday on that date or with that name.
+ *
+ * The per-row update counts of the two statements say whether a row was updated, inserted or
+ * skipped. The NOT EXISTS checks only see committed rows, so without the lock two uploads writing
+ * the same country at once could both insert a date (failing on the unique constraint) or both
+ * insert a name (which no constraint catches). With it, a second upload waits for the first to
+ * commit, or fails with a lock timeout, before checking anything. Locks are held until commit and
+ * batches of one upload may lock countries in any order, so uploads crossing the same countries
+ * in different orders can still fail with a deadlock; they never write a duplicate. Uploads in
+ * the other modes do not take the lock.
+ *
+ * All statements run on the caller's transaction; rows that are not inserted do not take a value
+ * from federal_holiday_seq. The sequence's increment matches the entity's allocation size, so a
+ * value taken here is always outside the id blocks Hibernate hands out.
+ *
+ * Writes bypass Hibernate, so the Country entity region and the query cache are evicted through
+ * {@link #evictSecondLevelCacheAfterCommit()} once countries or holidays have been written.
+ */
+@Component
+public class HolidayUpsertWriter {
+
+    public enum UpsertResult { INSERTED, UPDATED, SKIPPED }
+
+    private static final String[] DAY_OF_WEEK_NAMES = Arrays.stream(DayOfWeek.values())
+            .map(day -> day.getDisplayName(TextStyle.FULL, Locale.ENGLISH))
+            .toArray(String[]::new);
+
+    private static final String UPDATE_NAME_SQL =
+            "UPDATE federal_holiday SET holiday_name = ? "
+                    + "WHERE country_code = ? AND holiday_date = ? AND holiday_name <> ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM federal_holiday other WHERE other.country_code = ? AND other.holiday_name = ?)";
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO federal_holiday (id, country_code, country_name, holiday_date, holiday_name, day_of_week) "
+                    + "SELECT NEXT VALUE FOR federal_holiday_seq, ?, ?, ?, ?, ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM federal_holiday existing "
+                    + "WHERE existing.country_code = ? AND (existing.holiday_date = ? OR existing.holiday_name = ?))";
+
+    private static final String LOCK_COUNTRIES_SQL =
+            "SELECT country_code FROM country WHERE country_code IN (%s) ORDER BY country_code FOR UPDATE";
+
+    private static final String INSERT_COUNTRY_IF_ABSENT_SQL =
+            "INSERT INTO country (country_code, country_name) "
+                    + "SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM country WHERE country_code = ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // The country's name, or null when the code does not exist
+    public String findCountryName(String countryCode) {
+        List<String> names = jdbcTemplate.queryForList("SELECT country_name FROM country WHERE country_code = ?", String.class, countryCode);
+        return names.isEmpty() ? null : names.get(0);
+    }
+
+    public boolean isCountryNameTaken(String countryName) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM country WHERE country_name = ?", Integer.class, countryName);
+        return count != null && count > 0;
+    }
+
+    // Creates the country unless the code exists; returns the name the code ends up with
+    public String createCountry(String countryCode, String countryName) {
+        int inserted = jdbcTemplate.update(INSERT_COUNTRY_IF_ABSENT_SQL, countryCode, countryName, countryCode);
+        // Another upload may have created the code in the meantime, possibly under another name
+        return inserted == 1 ? countryName : findCountryName(countryCode);
+    }
+
+    // Rows must be valid, their countries must exist and no two rows may share a country code and date or name
+    public UpsertResult[] upsert(List<UploadRecord> rows) {
+        lockCountries(rows);
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_NAME_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getHolidayName());
+            ps.setString(2, row.getCountryCode());
+            ps.setObject(3, row.getHolidayDate());
+            ps.setString(4, row.getHolidayName());
+            ps.setString(5, row.getCountryCode());
+            ps.setString(6, row.getHolidayName());
+        });
+        int[][] inserted = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows, rows.size(), (ps, row) -> {
+            LocalDate holidayDate = row.getHolidayDate();
+            ps.setString(1, row.getCountryCode());
+            ps.setString(2, row.getCountryName());
+            ps.setObject(3, holidayDate);
+            ps.setString(4, row.getHolidayName());
+            ps.setString(5, DAY_OF_WEEK_NAMES[holidayDate.getDayOfWeek().ordinal()]);
+            ps.setString(6, row.getCountryCode());
+            ps.setObject(7, holidayDate);
+            ps.setString(8, row.getHolidayName());
+        });
+
+        UpsertResult[] results = new UpsertResult[rows.size()];
+        for (int i = 0; i < results.length; i++) {
+            if (inserted[0][i] > 0) {
+                results[i] = UpsertResult.INSERTED;
+            } else if (updated[0][i] > 0) {
+                results[i] = UpsertResult.UPDATED;
+            } else {
+                results[i] = UpsertResult.SKIPPED;
+            }
+        }
+        return results;
+    }
+
+    // Serialises concurrent upserts of the same country until the caller's transaction ends
+    private void lockCountries(List<UploadRecord> rows) {
+        Object[] countryCodes = rows.stream().map(UploadRecord::getCountryCode).distinct().toArray();
+        if (countryCodes.length == 0) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(countryCodes.length, "?"));
+        jdbcTemplate.queryForList(String.format(LOCK_COUNTRIES_SQL, placeholders), String.class, countryCodes);
+    }
+
+    // Evicting before commit would let another thread cache the old state again until the next eviction,
+    // so inside a transaction the eviction runs once the transaction completes, at most once per transaction
+    public void evictSecondLevelCacheAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictSecondLevelCache();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(HolidayUpsertWriter.this);
+                evictSecondLevelCache();
+            }
+        });
+    }
+
+    private void evictSecondLevelCache() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Country.class);
+        sessionFactory.getCache().evictQueryRegions();
+    }
+}
@@ -0,0 +1,297 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Reads a multipart/form-data body one part at a time straight from the request stream, so a
+ * part can be parsed while the rest of the body is still arriving. Only a fixed-size window of
+ * the body is buffered. A part's content stream ends at the next boundary; moving on to the
+ * next part skips whatever was left unread.
+ *
+ * Part content beyond maxPartSize and bodies beyond maxBodySize fail with 413, malformed
+ * bodies with 400.
+ */
+final class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_HEADER_BYTES = 16 * 1024;
+
+    private final InputStream in;
+    // CRLF--boundary; the line break belongs to the delimiter, not to the preceding content
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private final long maxPartSize;
+    private final long maxBodySize;
+    private int pos;
+    private int limit;
+    // Buffer index of the next delimiter once found, and the index the search resumes from
+    private int delimiterAt = -1;
+    private int scanFrom;
+    private boolean endOfStream;
+    private long bodyBytes;
+    private PartInputStream current;
+    private boolean finished;
+
+    record Part(String name, String fileName, InputStream content) {
+    }
+
+    MultipartStreamReader(InputStream in, String boundary, long maxPartSize, long maxBodySize) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+        this.maxPartSize = maxPartSize;
+        this.maxBodySize = maxBodySize;
+        // The first boundary line has no line break before it; one is assumed so every delimiter looks alike
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        limit = 2;
+    }
+
+    // The boundary parameter of a multipart content type, or null
+    static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return null;
+        }
+        String boundary = parameter(contentType, "boundary");
+        return boundary == null || boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+    }
+
+    // The next part, or null after the closing boundary
+    Part next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        current = null;
+        // Skips the preamble, or the unread rest of the previous part
+        while (content(null, 0, BUFFER_SIZE) >= 0) {
+            // keep skipping
+        }
+        pos += delimiter.length;
+        delimiterAt = -1;
+        if (!ensure(2)) {
+            throw malformed("the body ended after a boundary");
+        }
+        if (buffer[pos] == '-' && buffer[pos + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        // Transport padding, then the line break that ends the boundary line
+        while (ensure(1) && (buffer[pos] == ' ' || buffer[pos] == '\t')) {
+            pos++;
+        }
+        if (!ensure(2) || buffer[pos] != '\r' || buffer[pos + 1] != '\n') {
+            throw malformed("a boundary line is not terminated");
+        }
+        pos += 2;
+
+        String disposition = null;
+        int headerBytes = 0;
+        for (String header = readLine(); !header.isEmpty(); header = readLine()) {
+            headerBytes += header.length();
+            if (headerBytes > MAX_HEADER_BYTES) {
+                throw malformed("part headers are too large");
+            }
+            int colon = header.indexOf(':');
+            if (colon > 0 && header.substring(0, colon).trim().equalsIgnoreCase("Content-Disposition")) {
+                disposition = header.substring(colon + 1).trim();
+            }
+        }
+        scanFrom = pos;
+        if (disposition == null) {
+            throw malformed("a part has no Content-Disposition header");
+        }
+        String fileName = parameter(disposition, "filename");
+        if (fileName != null) {
+            // Some clients send the full client-side path
+            fileName = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        }
+        current = new PartInputStream(fileName);
+        return new Part(parameter(disposition, "name"), fileName, current);
+    }
+
+    // Copies content up to the next delimiter into b, or skips it when b is null; -1 at the delimiter
+    private int content(byte[] b, int off, int len) throws IOException {
+        while (true) {
+            int available;
+            int found = findDelimiter();
+            if (found >= 0) {
+                available = found - pos;
+                if (available == 0) {
+                    return -1;
+                }
+            } else {
+                // The end of the window may be the start of a delimiter
+                available = limit - pos - (delimiter.length - 1);
+                if (available <= 0) {
+                    if (endOfStream) {
+                        throw malformed("the body ended before the closing boundary");
+                    }
+                    fill();
+                    continue;
+                }
+            }
+            int n = Math.min(len, available);
+            if (b != null) {
+                System.arraycopy(buffer, pos, b, off, n);
+            }
+            pos += n;
+            return n;
+        }
+    }
+
+    private int findDelimiter() {
+        if (delimiterAt >= 0) {
+            return delimiterAt;
+        }
+        int last = limit - delimiter.length;
+        int i = Math.max(scanFrom, pos);
+        for (; i <= last; i++) {
+            if (buffer[i] == '\r' && matchesDelimiter(i)) {
+                delimiterAt = i;
+                return i;
+            }
+        }
+        scanFrom = i;
+        return -1;
+    }
+
+    private boolean matchesDelimiter(int at) {
+        for (int j = 1; j < delimiter.length; j++) {
+            if (buffer[at + j] != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean ensure(int bytes) throws IOException {
+        while (limit - pos < bytes && !endOfStream) {
+            fill();
+        }
+        return limit - pos >= bytes;
+    }
+
+    // Moves the unread bytes to the front of the window and reads more after them
+    private void fill() throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            scanFrom = Math.max(0, scanFrom - pos);
+            if (delimiterAt >= 0) {
+                delimiterAt -= pos;
+            }
+            pos = 0;
+        }
+        int n = in.read(buffer, limit, buffer.length - limit);
+        if (n < 0) {
+            endOfStream = true;
+            return;
+        }
+        bodyBytes += n;
+        if (bodyBytes > maxBodySize) {
+            throw new CustomException("Upload exceeds the maximum request size of " + maxBodySize + " bytes.", HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+        limit += n;
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        while (true) {
+            if (!ensure(2)) {
+                throw malformed("the body ended inside part headers");
+            }
+            if (buffer[pos] == '\r' && buffer[pos + 1] == '\n') {
+                pos += 2;
+                return line.toString(StandardCharsets.UTF_8);
+            }
+            line.write(buffer[pos++]);
+            if (line.size() > MAX_HEADER_BYTES) {
+                throw malformed("part headers are too large");
+            }
+        }
+    }
+
+    // A parameter of a header value such as: form-data; name="files"; filename="holidays.csv"
+    static String parameter(String headerValue, String name) {
+        int length = headerValue.length();
+        int separator = headerValue.indexOf(';');
+        while (separator >= 0) {
+            int equals = headerValue.indexOf('=', separator + 1);
+            if (equals < 0) {
+                return null;
+            }
+            String key = headerValue.substring(separator + 1, equals).trim();
+            int i = equals + 1;
+            while (i < length && headerValue.charAt(i) == ' ') {
+                i++;
+            }
+            String value;
+            if (i < length && headerValue.charAt(i) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                for (i++; i < length && headerValue.charAt(i) != '"'; i++) {
+                    char c = headerValue.charAt(i);
+                    // Only escaped quotes and backslashes; other backslashes are kept, as in Windows paths
+                    if (c == '\\' && i + 1 < length && (headerValue.charAt(i + 1) == '"' || headerValue.charAt(i + 1) == '\\')) {
+                        c = headerValue.charAt(++i);
+                    }
+                    quoted.append(c);
+                }
+                value = quoted.toString();
+                separator = headerValue.indexOf(';', i);
+            } else {
+                separator = headerValue.indexOf(';', i);
+                value = headerValue.substring(i, separator < 0 ? length : separator).trim();
+            }
+            if (key.equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static CustomException malformed(String reason) {
+        return new CustomException("Malformed multipart request: " + reason + ".", HttpStatus.BAD_REQUEST);
+    }
+
+    // Content of the current part; reads nothing once the reader has moved on to another part
+    private final class PartInputStream extends InputStream {
+        private final String fileName;
+        private long size;
+
+        private PartInputStream(String fileName) {
+            this.fileName = fileName;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (current != this) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int n = content(b, off, len);
+            if (n > 0) {
+                size += n;
+                if (size > maxPartSize) {
+                    throw new CustomException("File " + fileName + " exceeds the maximum file size of " + maxPartSize + " bytes.", HttpStatus.PAYLOAD_TOO_LARGE);
+                }
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.api.federalHolidays.service;
+
+/**
+ * Result of validating and saving one uploaded row. The bulk upload path works with these
+ * codes instead of exceptions; the messages are the ones the single-record REST path
+ * reports through CustomException for the same problems.
+ */
+public enum RecordOutcome {
+    OK(false),
+    MISSING_COLUMNS(false),
+    MISSING_COUNTRY_CODE(false),
+    MISSING_COUNTRY_NAME(false),
+    MISSING_HOLIDAY_NAME(false),
+    BAD_COUNTRY_CODE(false),
+    BAD_DATE(false),
+    DATE_NOT_CURRENT_YEAR(false),
+    // Country code exists with another name
+    COUNTRY_NAME_MISMATCH(false),
+    // Country name exists under another code
+    COUNTRY_CODE_MISMATCH(false),
+    DUPLICATE_DATE(true),
+    DUPLICATE_NAME(true);
+
+    private final boolean duplicate;
+
+    RecordOutcome(boolean duplicate) {
+        this.duplicate = duplicate;
+    }
+
+    // Duplicates are reported separately from failed rows
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    public String message(UploadRecord record) {
+        return switch (this) {
+            case OK -> null;
+            case MISSING_COLUMNS -> "Row has missing data. Expected 4 columns, found " + record.getColumnCount();
+            case MISSING_COUNTRY_CODE -> "Country code is required.";
+            case MISSING_COUNTRY_NAME -> "Country name is required.";
+            case MISSING_HOLIDAY_NAME -> "Holiday name is required.";
+            case BAD_COUNTRY_CODE -> "Country code must be 1 to 3 alphanumeric characters. Provided: " + record.getCountryCode() + ".";
+            case BAD_DATE -> "Invalid date or Holiday date must be in the format yyyy-MM-dd. Provided: " + record.getHolidayDateText();
+            case DATE_NOT_CURRENT_YEAR -> "Holiday date must be within the current year. Provided: " + record.getHolidayDateText();
+            case COUNTRY_NAME_MISMATCH -> "Country name does not match the existing record for country code: " + record.getCountryCode();
+            case COUNTRY_CODE_MISMATCH -> "Country code does not match the existing record for country name: " + record.getCountryName();
+            case DUPLICATE_DATE -> "Duplicate holiday record for country code: " + record.getCountryCode() + " and date: " + record.getHolidayDateText();
+            case DUPLICATE_NAME -> "Duplicate holiday record for country code: " + record.getCountryCode() + " and name: " + record.getHolidayName();
+        };
+    }
+}
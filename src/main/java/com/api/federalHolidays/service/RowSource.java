@@ -0,0 +1,10 @@
+package com.api.federalHolidays.service;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+// Data rows of one uploaded file, header excluded, passed to the consumer in file order
+@FunctionalInterface
+interface RowSource {
+    void read(Consumer<UploadRecord> rowConsumer) throws IOException;
+}
@@ -0,0 +1,214 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.util.IsoDates;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Upload strategy behind the STAGED mode, for very large files. Rows are copied as they are
+ * parsed into holiday_upload_staging with JDBC batches, tagged with a batch id per file. They
+ * are then validated with one UPDATE per rule, applied in the order validateUploadRecord
+ * checks them so each row keeps its first failure, and the remaining rows are copied into
+ * country and federal_holiday with INSERT ... SELECT. No entities are created.
+ *
+ * The outcome codes and messages are the same as in the row-by-row modes. A row is checked
+ * against earlier rows of the file that are still valid when its rule runs, found with window
+ * functions over the file's rows so each rule sorts the file once. A few chains of
+ * rows that only clash with an earlier row because that row was later rejected for another
+ * reason can be judged differently than row by row.
+ *
+ * Must run inside a transaction; the staging rows are deleted before it commits.
+ */
+@Component
+public class StagedHolidayUploader {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String STAGING_INSERT_SQL =
+            "INSERT INTO holiday_upload_staging (batch_id, row_num, column_count, country_code, country_name, holiday_date, holiday_date_text, holiday_name) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The file's rows that have not been rejected, each with the column value of the first such row in its partition
+    private static final String VALID_ROWS_WITH_FIRST_VALUE = "SELECT row_num, %2$s AS row_value, "
+            + "FIRST_VALUE(%2$s) OVER (PARTITION BY %1$s ORDER BY row_num) AS first_row_value "
+            + "FROM holiday_upload_staging WHERE batch_id = ? AND outcome IS NULL";
+
+    private static final String NEW_COUNTRY = "NOT EXISTS (SELECT 1 FROM country c WHERE c.country_code = s.country_code)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HolidayUpsertWriter holidayUpsertWriter;
+
+    @Autowired
+    private HolidayCalendarCache holidayCalendarCache;
+
+    @Autowired
+    private UploadReportService uploadReportService;
+
+    @PostConstruct
+    public void createStagingTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS holiday_upload_staging ("
+                + "batch_id VARCHAR(36) NOT NULL, row_num INT NOT NULL, column_count INT NOT NULL, "
+                + "country_code VARCHAR(255), country_name VARCHAR(255), holiday_date DATE, "
+                + "holiday_date_text VARCHAR(255), holiday_name VARCHAR(255), outcome VARCHAR(32), "
+                + "PRIMARY KEY (batch_id, row_num))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_holiday_upload_staging_country "
+                + "ON holiday_upload_staging (batch_id, country_code)");
+    }
+
+    public FileUploadResponse.FileResult upload(String fileName, RowSource rowSource, UploadProgress progress) throws IOException {
+        String batchId = UUID.randomUUID().toString();
+        int totalRecords = stage(batchId, rowSource);
+
+        validate(batchId);
+        jdbcTemplate.update("INSERT INTO country (country_code, country_name) "
+                + "SELECT s.country_code, s.country_name FROM holiday_upload_staging s "
+                + "WHERE s.batch_id = ? AND s.outcome IS NULL AND " + NEW_COUNTRY + " AND NOT (" + repeatedRow("country_code")
+                + ")", batchId, batchId);
+        int inserted = jdbcTemplate.update("INSERT INTO federal_holiday (id, country_code, country_name, holiday_date, holiday_name, day_of_week) "
+                + "SELECT NEXT VALUE FOR federal_holiday_seq, s.country_code, s.country_name, s.holiday_date, s.holiday_name, DAYNAME(s.holiday_date) "
+                + "FROM holiday_upload_staging s WHERE s.batch_id = ? AND s.outcome IS NULL ORDER BY s.row_num", batchId);
+        if (inserted > 0) {
+            jdbcTemplate.queryForList("SELECT DISTINCT country_code FROM holiday_upload_staging WHERE batch_id = ? AND outcome IS NULL",
+                    String.class, batchId).forEach(holidayCalendarCache::evictAfterCommit);
+            // Written without Hibernate, so cached countries and lookups may be stale once this commits
+            holidayUpsertWriter.evictSecondLevelCacheAfterCommit();
+        }
+
+        FileUploadResponse.FileResult fileResult = new FileUploadResponse.FileResult();
+        fileResult.setFileName(fileName);
+        fileResult.setTotalRecords(totalRecords);
+        fileResult.setSuccessRecords(inserted);
+        reportRejectedRows(batchId).complete(fileResult);
+        progress.rowsCompleted(inserted, fileResult.getFailedRecords(), fileResult.getDuplicateRecords());
+
+        jdbcTemplate.update("DELETE FROM holiday_upload_staging WHERE batch_id = ?", batchId);
+        return fileResult;
+    }
+
+    // Copies the file's rows into the staging table; returns the number of rows
+    private int stage(String batchId, RowSource rowSource) throws IOException {
+        List<UploadRecord> pending = new ArrayList<>(INSERT_BATCH_SIZE);
+        int[] rowCount = new int[1];
+        rowSource.read(record -> {
+            pending.add(record);
+            if (pending.size() == INSERT_BATCH_SIZE) {
+                insertStagingRows(batchId, pending, rowCount[0]);
+                rowCount[0] += pending.size();
+                pending.clear();
+            }
+        });
+        insertStagingRows(batchId, pending, rowCount[0]);
+        return rowCount[0] + pending.size();
+    }
+
+    private void insertStagingRows(String batchId, List<UploadRecord> rows, int rowsBefore) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(STAGING_INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                UploadRecord row = rows.get(i);
+                // Row numbers are 1-based data rows, as in the other modes
+                ps.setString(1, batchId);
+                ps.setInt(2, rowsBefore + i + 1);
+                ps.setInt(3, row.getColumnCount());
+                ps.setString(4, row.getCountryCode());
+                ps.setString(5, row.getCountryName());
+                // The date is parsed strictly here; its text is only kept when it is not a valid date
+                ps.setDate(6, row.getHolidayDate() == null ? null : Date.valueOf(row.getHolidayDate()));
+                ps.setString(7, row.getHolidayDate() == null ? row.getHolidayDateText() : null);
+                ps.setString(8, row.getHolidayName());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private void validate(String batchId) {
+        flag(batchId, RecordOutcome.MISSING_COLUMNS, "s.column_count < 4");
+        flag(batchId, RecordOutcome.MISSING_COUNTRY_CODE, "s.country_code = ''");
+        flag(batchId, RecordOutcome.MISSING_COUNTRY_NAME, "s.country_name = ''");
+        flag(batchId, RecordOutcome.MISSING_HOLIDAY_NAME, "s.holiday_name = ''");
+        flag(batchId, RecordOutcome.BAD_COUNTRY_CODE, "NOT REGEXP_LIKE(s.country_code, '^[a-zA-Z0-9]{1,3}$')");
+        flag(batchId, RecordOutcome.BAD_DATE, "s.holiday_date IS NULL");
+        flag(batchId, RecordOutcome.DATE_NOT_CURRENT_YEAR, "EXTRACT(YEAR FROM s.holiday_date) <> ?", IsoDates.currentYear());
+
+        // Existing countries, then countries created by an earlier row of the file
+        flag(batchId, RecordOutcome.COUNTRY_NAME_MISMATCH,
+                "EXISTS (SELECT 1 FROM country c WHERE c.country_code = s.country_code AND c.country_name <> s.country_name)");
+        flag(batchId, RecordOutcome.COUNTRY_NAME_MISMATCH,
+                NEW_COUNTRY + " AND " + differsFromFirstRow("country_code", "country_name"), batchId);
+        flag(batchId, RecordOutcome.COUNTRY_CODE_MISMATCH,
+                NEW_COUNTRY + " AND EXISTS (SELECT 1 FROM country c WHERE c.country_name = s.country_name)");
+        flag(batchId, RecordOutcome.COUNTRY_CODE_MISMATCH,
+                NEW_COUNTRY + " AND " + differsFromFirstRow("country_name", "country_code"), batchId);
+
+        // Clashes with saved holidays and with earlier rows of the file
+        flag(batchId, RecordOutcome.DUPLICATE_DATE,
+                "EXISTS (SELECT 1 FROM federal_holiday h WHERE h.country_code = s.country_code AND h.holiday_date = s.holiday_date) "
+                        + "OR " + repeatedRow("country_code, holiday_date"), batchId);
+        flag(batchId, RecordOutcome.DUPLICATE_NAME,
+                "EXISTS (SELECT 1 FROM federal_holiday h WHERE h.country_code = s.country_code AND h.holiday_name = s.holiday_name) "
+                        + "OR " + repeatedRow("country_code, holiday_name"), batchId);
+    }
+
+    // The row follows a still-valid row of the file with the same values in the columns; takes the batch id
+    private static String repeatedRow(String columns) {
+        return differsFromFirstRow(columns, "row_num");
+    }
+
+    // The row's column differs from that of the first still-valid row of the file with the same partition values;
+    // takes the batch id. Uncorrelated, so the file is sorted once per statement instead of searched once per row.
+    private static String differsFromFirstRow(String partitionColumns, String column) {
+        return "s.row_num IN (SELECT w.row_num FROM (" + String.format(VALID_ROWS_WITH_FIRST_VALUE, partitionColumns, column)
+                + ") w WHERE w.row_value <> w.first_row_value)";
+    }
+
+    // Marks the file's still-valid rows that match the condition with the outcome
+    private void flag(String batchId, RecordOutcome outcome, String condition, Object... parameters) {
+        Object[] arguments = new Object[parameters.length + 2];
+        arguments[0] = outcome.name();
+        arguments[1] = batchId;
+        System.arraycopy(parameters, 0, arguments, 2, parameters.length);
+        jdbcTemplate.update("UPDATE holiday_upload_staging s SET outcome = ? "
+                + "WHERE s.batch_id = ? AND s.outcome IS NULL AND (" + condition + ")", arguments);
+    }
+
+    // Failed and duplicate rows with the messages the row-by-row modes report, read back in row order
+    private UploadReport reportRejectedRows(String batchId) {
+        UploadReport report = uploadReportService.newReport();
+        jdbcTemplate.query("SELECT row_num, column_count, country_code, country_name, holiday_date, holiday_date_text, holiday_name, outcome "
+                + "FROM holiday_upload_staging WHERE batch_id = ? AND outcome IS NOT NULL ORDER BY row_num", resultSet -> {
+            Date holidayDate = resultSet.getDate("holiday_date");
+            UploadRecord record = new UploadRecord(resultSet.getInt("column_count"), resultSet.getString("country_code"),
+                    resultSet.getString("country_name"), resultSet.getString("holiday_date_text"),
+                    holidayDate == null ? null : holidayDate.toLocalDate(), resultSet.getString("holiday_name"));
+            RecordOutcome outcome = RecordOutcome.valueOf(resultSet.getString("outcome"));
+            if (outcome.isDuplicate()) {
+                report.addDuplicateRecord(resultSet.getInt("row_num"), outcome.message(record));
+            } else {
+                report.addFailedRecord(resultSet.getInt("row_num"), outcome.message(record));
+            }
+        }, batchId);
+        return report;
+    }
+}
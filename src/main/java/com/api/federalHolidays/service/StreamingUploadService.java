@@ -0,0 +1,10 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.UploadMode;
+
+import java.io.InputStream;
+
+public interface StreamingUploadService {
+    FileUploadResponse uploadHolidays(String contentType, InputStream body, UploadMode mode);
+}
@@ -0,0 +1,85 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.UploadMode;
+import com.api.federalHolidays.exception.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Uploads the files of a multipart/form-data body while it is being received. Each "files"
+ * part is handed to the upload as soon as its headers have arrived and its rows are parsed
+ * from the request stream, so memory does not grow with the file size and the limits can be
+ * far above the buffered multipart limits. Other parts are skipped.
+ */
+@Service
+public class StreamingUploadServiceImpl implements StreamingUploadService {
+
+    private static final String FILES_PART = "files";
+
+    @Autowired
+    private FederalHolidayService federalHolidayService;
+
+    @Value("${federal-holidays.upload.stream.max-file-size:1GB}")
+    private DataSize maxFileSize;
+
+    @Value("${federal-holidays.upload.stream.max-request-size:4GB}")
+    private DataSize maxRequestSize;
+
+    @Override
+    public FileUploadResponse uploadHolidays(String contentType, InputStream body, UploadMode mode) {
+        String boundary = MultipartStreamReader.boundaryOf(contentType);
+        if (boundary == null) {
+            throw new CustomException("Expected a multipart/form-data request with a boundary.", HttpStatus.BAD_REQUEST);
+        }
+        MultipartStreamReader reader = new MultipartStreamReader(body, boundary, maxFileSize.toBytes(), maxRequestSize.toBytes());
+        return federalHolidayService.uploadStreamedHolidays(() -> new FilePartIterator(reader),
+                mode == null ? UploadMode.SEQUENTIAL : mode, new UploadProgress());
+    }
+
+    // Reads up to the next file part when asked whether there is one, once the previous file has been processed
+    private static final class FilePartIterator implements Iterator<UploadSource> {
+        private final MultipartStreamReader reader;
+        private UploadSource next;
+        private boolean finished;
+
+        private FilePartIterator(MultipartStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                try {
+                    MultipartStreamReader.Part part = reader.next();
+                    if (part == null) {
+                        finished = true;
+                    } else if (FILES_PART.equals(part.name()) && part.fileName() != null) {
+                        next = UploadSource.of(part.fileName(), part.content());
+                    }
+                } catch (IOException e) {
+                    throw new CustomException("Failed to read the upload: " + e.getMessage(), HttpStatus.BAD_REQUEST);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public UploadSource next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            UploadSource source = next;
+            next = null;
+            return source;
+        }
+    }
+}
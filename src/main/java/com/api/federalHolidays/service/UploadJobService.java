@@ -0,0 +1,13 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.UploadJobResponse;
+import com.api.federalHolidays.dto.UploadMode;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+public interface UploadJobService {
+    UploadJobResponse submitUpload(List<MultipartFile> files, UploadMode mode);
+
+    UploadJobResponse getJob(String jobId);
+}
@@ -0,0 +1,184 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.UploadJobResponse;
+import com.api.federalHolidays.dto.UploadJobStatus;
+import com.api.federalHolidays.dto.UploadMode;
+import com.api.federalHolidays.exception.CustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs uploads in the background. Submitted files are spooled to temporary files so the
+ * request can return straight away; the upload itself runs on the bounded upload job
+ * executor and reports its progress through an {@link UploadProgress}. Finished jobs are
+ * kept for the configured retention period so their result can still be fetched.
+ */
+@Service
+public class UploadJobServiceImpl implements UploadJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadJobServiceImpl.class);
+
+    private final Map<String, UploadJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private FederalHolidayService federalHolidayService;
+
+    @Autowired
+    @Qualifier("uploadJobExecutor")
+    private TaskExecutor uploadJobExecutor;
+
+    @Value("${federal-holidays.upload.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Override
+    public UploadJobResponse submitUpload(List<MultipartFile> files, UploadMode mode) {
+        if (files == null || files.isEmpty()) {
+            throw new CustomException("No files uploaded. Please upload at least one file.", HttpStatus.BAD_REQUEST);
+        }
+        purgeExpiredJobs();
+
+        UploadJob job = new UploadJob(UUID.randomUUID().toString(), mode == null ? UploadMode.SEQUENTIAL : mode);
+        try {
+            for (MultipartFile file : files) {
+                UploadSource.of(file).checkSupportedFormat();
+                Path spooled = Files.createTempFile("holiday-upload-", suffixOf(file.getOriginalFilename()));
+                job.spooledFiles.add(spooled);
+                file.transferTo(spooled);
+                job.sources.add(UploadSource.of(file.getOriginalFilename(), spooled));
+            }
+        } catch (IOException e) {
+            job.deleteSpooledFiles();
+            throw new CustomException("Failed to store the file: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (RuntimeException e) {
+            job.deleteSpooledFiles();
+            throw e;
+        }
+
+        jobs.put(job.id, job);
+        try {
+            uploadJobExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            job.deleteSpooledFiles();
+            throw new CustomException("Too many upload jobs in progress. Please retry later.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return toResponse(job);
+    }
+
+    @Override
+    public UploadJobResponse getJob(String jobId) {
+        UploadJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new CustomException("Upload job not found: " + jobId, HttpStatus.NOT_FOUND);
+        }
+        return toResponse(job);
+    }
+
+    private void run(UploadJob job) {
+        job.startedAt = Instant.now();
+        job.status = UploadJobStatus.RUNNING;
+        try {
+            job.result = federalHolidayService.uploadHolidays(job.sources, job.mode, job.progress);
+            job.finishedAt = Instant.now();
+            job.status = UploadJobStatus.COMPLETED;
+        } catch (RuntimeException e) {
+            log.warn("Upload job {} failed", job.id, e);
+            job.errorMessage = e.getMessage();
+            job.finishedAt = Instant.now();
+            job.status = UploadJobStatus.FAILED;
+        } finally {
+            job.deleteSpooledFiles();
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static String suffixOf(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        return dot < 0 ? null : fileName.substring(dot);
+    }
+
+    private static UploadJobResponse toResponse(UploadJob job) {
+        UploadJobStatus status = job.status;
+        UploadProgress progress = job.progress;
+        UploadJobResponse response = new UploadJobResponse();
+        response.setJobId(job.id);
+        response.setStatus(status);
+        response.setMode(job.mode);
+        response.setSubmittedAt(job.submittedAt);
+        response.setStartedAt(job.startedAt);
+        response.setFinishedAt(job.finishedAt);
+        response.setTotalBytes(progress.getTotalBytes());
+        response.setBytesRead(progress.getBytesRead());
+        response.setRowsParsed(progress.getRowsParsed());
+        response.setRowsSucceeded(progress.getRowsSucceeded());
+        response.setRowsFailed(progress.getRowsFailed());
+        response.setRowsDuplicate(progress.getRowsDuplicate());
+        response.setErrorMessage(job.errorMessage);
+        response.setResult(job.result);
+
+        if (job.startedAt != null) {
+            Instant end = job.finishedAt != null ? job.finishedAt : Instant.now();
+            long elapsedMillis = Math.max(1, Duration.between(job.startedAt, end).toMillis());
+            long rowsProcessed = progress.getRowsSucceeded() + progress.getRowsFailed() + progress.getRowsDuplicate();
+            response.setRowsPerSecond(rowsProcessed * 1000.0 / elapsedMillis);
+            if (status == UploadJobStatus.RUNNING && progress.getBytesRead() > 0) {
+                long remainingBytes = Math.max(0, progress.getTotalBytes() - progress.getBytesRead());
+                response.setEtaSeconds((long) ((double) elapsedMillis * remainingBytes / progress.getBytesRead() / 1000));
+            }
+        }
+        return response;
+    }
+
+    private static final class UploadJob {
+        private final String id;
+        private final UploadMode mode;
+        private final Instant submittedAt = Instant.now();
+        private final UploadProgress progress = new UploadProgress();
+        private final List<UploadSource> sources = new ArrayList<>();
+        private final List<Path> spooledFiles = new ArrayList<>();
+        private volatile UploadJobStatus status = UploadJobStatus.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String errorMessage;
+        private volatile FileUploadResponse result;
+
+        private UploadJob(String id, UploadMode mode) {
+            this.id = id;
+            this.mode = mode;
+        }
+
+        private void deleteSpooledFiles() {
+            for (Path path : spooledFiles) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Could not delete spooled upload file {}", path, e);
+                }
+            }
+        }
+    }
+}
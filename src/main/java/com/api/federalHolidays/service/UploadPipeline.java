@@ -0,0 +1,213 @@
+package com.api.federalHolidays.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Runs one file through three stages: a parser task reads rows and cuts them into blocks,
+ * validation tasks compute each block's row outcomes, and the calling thread hands the rows
+ * with their outcomes to the writer in file order. Blocks travel through a bounded queue,
+ * so the parser waits once it is QUEUE_CAPACITY blocks ahead of the writer.
+ *
+ * The writer never waits on a validation task that has not started: whichever of the pool
+ * and the writer claims a block first validates it. A saturated pool therefore slows the
+ * pipeline down but cannot stall it.
+ *
+ * run() returns only once the parser task has finished, so the file is never read after the
+ * upload has failed or its response has been sent.
+ */
+final class UploadPipeline {
+
+    static final int BLOCK_SIZE = 256;
+    static final int QUEUE_CAPACITY = 16;
+
+    private static final Block END = new Block(List.of());
+
+    private final Executor executor;
+    private final Function<UploadRecord, RecordOutcome> validator;
+    private final BlockingQueue<Block> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private volatile boolean cancelled;
+    // Completed when the parser task has stopped reading the file, however it stopped
+    private final CompletableFuture<Void> parsed = new CompletableFuture<>();
+    private List<UploadRecord> pending = new ArrayList<>(BLOCK_SIZE);
+
+    UploadPipeline(Executor executor, Function<UploadRecord, RecordOutcome> validator) {
+        this.executor = executor;
+        this.validator = validator;
+    }
+
+    // Returns false, without reading anything, when the executor ran the parser on the calling thread
+    boolean run(RowSource rowSource, BiConsumer<UploadRecord, RecordOutcome> writer) throws IOException {
+        Thread writerThread = Thread.currentThread();
+        boolean[] ranInline = new boolean[1];
+        try {
+            executor.execute(() -> {
+                // A saturated pool may run the task right here, where it would wait for itself to take blocks
+                if (Thread.currentThread() == writerThread) {
+                    ranInline[0] = true;
+                    return;
+                }
+                parse(rowSource);
+            });
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        if (ranInline[0]) {
+            return false;
+        }
+        try {
+            write(writer);
+        } finally {
+            cancelled = true;
+            queue.clear();
+            // The parser notices cancelled at its next row or block and closes the file on its way out
+            parsed.join();
+        }
+        return true;
+    }
+
+    private void write(BiConsumer<UploadRecord, RecordOutcome> writer) throws IOException {
+        while (true) {
+            Block block = take();
+            if (block == END) {
+                return;
+            }
+            if (block.failure != null) {
+                rethrow(block.failure);
+            }
+            block.validate(validator);
+            try {
+                block.validated.join();
+            } catch (CompletionException e) {
+                rethrow(e.getCause());
+            }
+            for (int i = 0; i < block.rows.size(); i++) {
+                writer.accept(block.rows.get(i), block.outcomes[i]);
+            }
+        }
+    }
+
+    // Runs on the parser thread, the only one touching pending
+    private void parse(RowSource rowSource) {
+        try {
+            rowSource.read(record -> {
+                if (cancelled) {
+                    throw new CancelledException();
+                }
+                pending.add(record);
+                if (pending.size() == BLOCK_SIZE) {
+                    submit(new Block(pending));
+                    pending = new ArrayList<>(BLOCK_SIZE);
+                }
+            });
+            if (!pending.isEmpty()) {
+                submit(new Block(pending));
+            }
+            put(END);
+        } catch (CancelledException e) {
+            // The writer has stopped; nothing is waiting for more blocks
+        } catch (Throwable e) {
+            Block failed = new Block(List.of());
+            failed.failure = e;
+            try {
+                put(failed);
+            } catch (CancelledException cancelled) {
+                // The writer has stopped already
+            }
+        } finally {
+            parsed.complete(null);
+        }
+    }
+
+    private void submit(Block block) {
+        try {
+            executor.execute(() -> block.validate(validator));
+        } catch (RejectedExecutionException e) {
+            // Left for the writer to validate
+        }
+        put(block);
+    }
+
+    private void put(Block block) {
+        if (cancelled) {
+            throw new CancelledException();
+        }
+        try {
+            while (!queue.offer(block, 100, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    throw new CancelledException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancelledException();
+        }
+    }
+
+    private Block take() throws IOException {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for parsed rows", e);
+        }
+    }
+
+    private static void rethrow(Throwable failure) throws IOException {
+        if (failure instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IOException(failure);
+    }
+
+    private static final class CancelledException extends RuntimeException {
+        private CancelledException() {
+            super(null, null, false, false);
+        }
+    }
+
+    // Rows of a file in order, with their outcomes once validated
+    private static final class Block {
+        private final List<UploadRecord> rows;
+        private final RecordOutcome[] outcomes;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Void> validated = new CompletableFuture<>();
+        private Throwable failure;
+
+        private Block(List<UploadRecord> rows) {
+            this.rows = rows;
+            this.outcomes = new RecordOutcome[rows.size()];
+        }
+
+        private void validate(Function<UploadRecord, RecordOutcome> validator) {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                for (int i = 0; i < rows.size(); i++) {
+                    outcomes[i] = validator.apply(rows.get(i));
+                }
+                validated.complete(null);
+            } catch (RuntimeException e) {
+                validated.completeExceptionally(e);
+            }
+        }
+    }
+}
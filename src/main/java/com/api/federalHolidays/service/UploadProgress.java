@@ -0,0 +1,113 @@
+package com.api.federalHolidays.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters for an upload in progress. Updated by the threads processing the upload and
+ * read concurrently by whoever reports on it, so every counter is a LongAdder.
+ */
+public class UploadProgress {
+
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder rowsParsed = new LongAdder();
+    private final LongAdder rowsSucceeded = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+    private final LongAdder rowsDuplicate = new LongAdder();
+
+    public void addTotalBytes(long bytes) {
+        totalBytes.add(bytes);
+    }
+
+    // Wraps a file's stream so the bytes consumed by the parser are counted
+    public InputStream track(InputStream inputStream) {
+        return new FilterInputStream(inputStream) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead.increment();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) {
+                    bytesRead.add(n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                long skipped = super.skip(n);
+                bytesRead.add(skipped);
+                return skipped;
+            }
+        };
+    }
+
+    // For input read without a tracked stream, e.g. a memory-mapped file
+    public void addBytesRead(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    public void rowParsed() {
+        rowsParsed.increment();
+    }
+
+    public void rowSucceeded() {
+        rowsSucceeded.increment();
+    }
+
+    public void rowFailed() {
+        rowsFailed.increment();
+    }
+
+    public void rowDuplicate() {
+        rowsDuplicate.increment();
+    }
+
+    // For modes that learn the outcome of a file's rows all at once
+    public void rowsCompleted(long succeeded, long failed, long duplicate) {
+        rowsSucceeded.add(succeeded);
+        rowsFailed.add(failed);
+        rowsDuplicate.add(duplicate);
+    }
+
+    // Rows counted as succeeded or duplicate whose transaction was rolled back now count as failed
+    public void rowsRolledBack(long succeeded, long duplicate) {
+        rowsSucceeded.add(-succeeded);
+        rowsDuplicate.add(-duplicate);
+        rowsFailed.add(succeeded + duplicate);
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.sum();
+    }
+
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.sum();
+    }
+
+    public long getRowsSucceeded() {
+        return rowsSucceeded.sum();
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed.sum();
+    }
+
+    public long getRowsDuplicate() {
+        return rowsDuplicate.sum();
+    }
+}
@@ -0,0 +1,75 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.util.IsoDates;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One data row of an uploaded file: the four holiday columns, trimmed. Readers that parse
+ * the holiday date themselves pass the resulting date along so validation does not parse
+ * it again; the date text is then only built when a message needs it. Otherwise the text
+ * is parsed once, the first time the date is asked for.
+ */
+public final class UploadRecord {
+
+    // Number of columns the row actually had, which may be fewer than four
+    private final int columnCount;
+    private final String countryCode;
+    private final String countryName;
+    private final String holidayName;
+    private String holidayDateText;
+    // null when the text is not a valid yyyy-MM-dd date
+    private LocalDate holidayDate;
+    private boolean holidayDateParsed;
+
+    public UploadRecord(int columnCount, String countryCode, String countryName, String holidayDateText, LocalDate holidayDate, String holidayName) {
+        this.columnCount = columnCount;
+        this.countryCode = countryCode;
+        this.countryName = countryName;
+        this.holidayDateText = holidayDateText;
+        this.holidayDate = holidayDate;
+        this.holidayDateParsed = holidayDate != null || holidayDateText == null;
+        this.holidayName = holidayName;
+    }
+
+    // Row read as text cells; missing columns are null
+    public static UploadRecord of(List<String> columns) {
+        return new UploadRecord(columns.size(), column(columns, 0), column(columns, 1), column(columns, 2), null, column(columns, 3));
+    }
+
+    private static String column(List<String> columns, int index) {
+        return index < columns.size() ? columns.get(index).trim() : null;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public String getCountryName() {
+        return countryName;
+    }
+
+    public String getHolidayName() {
+        return holidayName;
+    }
+
+    public LocalDate getHolidayDate() {
+        if (!holidayDateParsed) {
+            holidayDate = IsoDates.parse(holidayDateText);
+            holidayDateParsed = true;
+        }
+        return holidayDate;
+    }
+
+    public String getHolidayDateText() {
+        if (holidayDateText == null && holidayDate != null) {
+            holidayDateText = holidayDate.toString();
+        }
+        return holidayDateText;
+    }
+}
@@ -0,0 +1,155 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Failed and duplicate rows of one uploaded file. Only the first inlineLimit rows of each kind
+ * are kept for the response; every row is appended in row order to a CSV report, which is
+ * created on the first rejected row and written in blocks of FLUSH_THRESHOLD characters. The
+ * counts stay exact however many rows are rejected.
+ *
+ * Not thread-safe: a report belongs to the thread processing its file.
+ */
+public final class UploadReport {
+
+    static final String HEADER = "rowNumber,outcome,errorMessage\n";
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final String id;
+    private final Path file;
+    private final int inlineLimit;
+    private final List<FileUploadResponse.FileResult.FailedRecord> failedRecords = new ArrayList<>();
+    private final List<FileUploadResponse.FileResult.DuplicateRecord> duplicateRecords = new ArrayList<>();
+    private final StringBuilder buffer = new StringBuilder();
+    private int failedCount;
+    private int duplicateCount;
+    private boolean fileCreated;
+
+    UploadReport(String id, Path file, int inlineLimit) {
+        this.id = id;
+        this.file = file;
+        this.inlineLimit = inlineLimit;
+    }
+
+    // Failed and duplicate counts and the length of the written report at a point of the upload
+    record Mark(int failedCount, int duplicateCount, long fileLength) {
+    }
+
+    void addFailedRecord(int rowNumber, String errorMessage) {
+        failedCount++;
+        if (failedRecords.size() < inlineLimit) {
+            FileUploadResponse.FileResult.FailedRecord failedRecord = new FileUploadResponse.FileResult.FailedRecord();
+            failedRecord.setRowNumber(rowNumber);
+            failedRecord.setErrorMessage(errorMessage);
+            failedRecords.add(failedRecord);
+        }
+        append(rowNumber, "FAILED", errorMessage);
+    }
+
+    void addDuplicateRecord(int rowNumber, String errorMessage) {
+        duplicateCount++;
+        if (duplicateRecords.size() < inlineLimit) {
+            FileUploadResponse.FileResult.DuplicateRecord duplicateRecord = new FileUploadResponse.FileResult.DuplicateRecord();
+            duplicateRecord.setRowNumber(rowNumber);
+            duplicateRecord.setErrorMessage(errorMessage);
+            duplicateRecords.add(duplicateRecord);
+        }
+        append(rowNumber, "DUPLICATE", errorMessage);
+    }
+
+    int getFailedCount() {
+        return failedCount;
+    }
+
+    int getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    Mark mark() {
+        flush();
+        return new Mark(failedCount, duplicateCount, fileCreated ? size() : HEADER.length());
+    }
+
+    // Forgets every row added since the mark, in the response and in the report
+    void rollbackTo(Mark mark) {
+        buffer.setLength(0);
+        if (fileCreated) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(mark.fileLength());
+            } catch (IOException e) {
+                throw reportFailure(e);
+            }
+        }
+        failedCount = mark.failedCount();
+        duplicateCount = mark.duplicateCount();
+        failedRecords.subList(Math.min(failedRecords.size(), mark.failedCount()), failedRecords.size()).clear();
+        duplicateRecords.subList(Math.min(duplicateRecords.size(), mark.duplicateCount()), duplicateRecords.size()).clear();
+    }
+
+    // Writes what is left of the report and fills in the file result's counts, details and report id
+    void complete(FileUploadResponse.FileResult fileResult) {
+        flush();
+        fileResult.setFailedRecords(failedCount);
+        fileResult.setDuplicateRecords(duplicateCount);
+        fileResult.setFailedRecordsDetails(failedRecords);
+        fileResult.setDuplicateRecordsDetails(duplicateRecords);
+        fileResult.setReportId(failedCount + duplicateCount > 0 ? id : null);
+    }
+
+    private void append(int rowNumber, String outcome, String errorMessage) {
+        buffer.append(rowNumber).append(',').append(outcome).append(",\"");
+        if (errorMessage != null) {
+            for (int i = 0; i < errorMessage.length(); i++) {
+                char c = errorMessage.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+        }
+        buffer.append("\"\n");
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            if (!fileCreated) {
+                Files.writeString(file, HEADER, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                fileCreated = true;
+            }
+            Files.writeString(file, buffer, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw reportFailure(e);
+        }
+        buffer.setLength(0);
+    }
+
+    private long size() {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw reportFailure(e);
+        }
+    }
+
+    private static CustomException reportFailure(IOException e) {
+        return new CustomException("Failed to write the upload report: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
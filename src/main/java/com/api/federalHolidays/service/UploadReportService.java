@@ -0,0 +1,9 @@
+package com.api.federalHolidays.service;
+
+import java.nio.file.Path;
+
+public interface UploadReportService {
+    UploadReport newReport();
+
+    Path getReport(String reportId);
+}
@@ -0,0 +1,97 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.exception.CustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Keeps the CSV reports of rejected upload rows as files named after their report id in the
+ * report directory. Reports older than the retention period are deleted, at most once a
+ * minute, when a new report is started.
+ */
+@Service
+public class UploadReportServiceImpl implements UploadReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadReportServiceImpl.class);
+
+    private static final long PURGE_INTERVAL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    // Defaults to holiday-upload-reports in the system temporary directory
+    @Value("${federal-holidays.upload.report.directory:}")
+    private String reportDirectory;
+
+    // Failed and duplicate rows per file returned in the upload response; the report has all of them
+    @Value("${federal-holidays.upload.report.inline-limit:100}")
+    private int inlineLimit;
+
+    @Value("${federal-holidays.upload.report.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private volatile long nextPurgeMillis;
+
+    @Override
+    public UploadReport newReport() {
+        Path directory = directory();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new CustomException("Failed to create the upload report directory: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        purgeExpiredReports(directory);
+        String reportId = UUID.randomUUID().toString();
+        return new UploadReport(reportId, directory.resolve(reportId + ".csv"), inlineLimit);
+    }
+
+    @Override
+    public Path getReport(String reportId) {
+        // Only ids of the form handed out resolve to a file, so the id cannot leave the directory
+        Path report = isReportId(reportId) ? directory().resolve(reportId + ".csv") : null;
+        if (report == null || !Files.isRegularFile(report)) {
+            throw new CustomException("Upload report not found: " + reportId, HttpStatus.NOT_FOUND);
+        }
+        return report;
+    }
+
+    private Path directory() {
+        return reportDirectory == null || reportDirectory.isBlank()
+                ? Paths.get(System.getProperty("java.io.tmpdir"), "holiday-upload-reports")
+                : Paths.get(reportDirectory);
+    }
+
+    private void purgeExpiredReports(Path directory) {
+        long now = System.currentTimeMillis();
+        if (now < nextPurgeMillis) {
+            return;
+        }
+        nextPurgeMillis = now + PURGE_INTERVAL_MILLIS;
+        long cutoff = now - Duration.ofMinutes(retentionMinutes).toMillis();
+        try (DirectoryStream<Path> reports = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path report : reports) {
+                if (Files.getLastModifiedTime(report).toMillis() < cutoff) {
+                    Files.deleteIfExists(report);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not purge expired upload reports in {}", directory, e);
+        }
+    }
+
+    private static boolean isReportId(String reportId) {
+        try {
+            return reportId != null && UUID.fromString(reportId).toString().equals(reportId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.exception.CustomException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * One uploaded file as seen by the ingestion code: a name, its size and a way to open it.
+ * Backed by a request's MultipartFile, by a file on disk, e.g. one spooled for a background
+ * upload job, or by a multipart part being read from the request, which can be opened once.
+ *
+ * Only sources created from a path have one, so of the upload paths only the files spooled for
+ * background jobs are memory-mapped by the CSV parser. A MultipartFile is always read as a
+ * stream, even when the servlet container has buffered it to a temporary file, because that
+ * file's location is not part of the MultipartFile API.
+ */
+public final class UploadSource {
+
+    @FunctionalInterface
+    private interface StreamOpener {
+        InputStream open() throws IOException;
+    }
+
+    private final String fileName;
+    // -1 when unknown
+    private final long size;
+    // null unless the source was created from a path; never set for a MultipartFile
+    private final Path path;
+    private final StreamOpener opener;
+
+    private UploadSource(String fileName, long size, Path path, StreamOpener opener) {
+        this.fileName = fileName;
+        this.size = size;
+        this.path = path;
+        this.opener = opener;
+    }
+
+    public static UploadSource of(MultipartFile file) {
+        return new UploadSource(file.getOriginalFilename(), file.getSize(), null, file::getInputStream);
+    }
+
+    public static UploadSource of(String fileName, Path path) throws IOException {
+        return new UploadSource(fileName, Files.size(path), path, () -> Files.newInputStream(path));
+    }
+
+    public static UploadSource of(String fileName, InputStream content) {
+        boolean[] opened = new boolean[1];
+        return new UploadSource(fileName, -1, null, () -> {
+            if (opened[0]) {
+                throw new IllegalStateException("Streamed upload " + fileName + " can only be read once");
+            }
+            opened[0] = true;
+            return content;
+        });
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public InputStream openStream() throws IOException {
+        return opener.open();
+    }
+
+    public boolean isCsv() {
+        return fileName != null && fileName.endsWith(".csv");
+    }
+
+    public boolean isExcel() {
+        return fileName != null && fileName.endsWith(".xlsx");
+    }
+
+    public void checkSupportedFormat() {
+        if (!isCsv() && !isExcel()) {
+            throw new CustomException("Unsupported file format. Only CSV and Excel files are allowed.", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
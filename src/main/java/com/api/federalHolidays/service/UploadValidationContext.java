@@ -0,0 +1,100 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.entity.Country;
+import com.api.federalHolidays.repository.CountryRepository;
+import com.api.federalHolidays.repository.FederalHolidayRepository;
+import com.api.federalHolidays.repository.HolidayKeyView;
+import com.api.federalHolidays.util.HolidayKeys;
+import com.api.federalHolidays.util.LongHashSet;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory view of the countries touched by one upload. A country's row and its existing
+ * holiday dates and names are loaded the first time one of its rows is seen and are kept
+ * up to date as rows are saved, so the number of queries depends on the number of distinct
+ * countries in the upload rather than on the number of rows. Rows repeating an earlier row
+ * of the same upload are caught here as well, without a database round trip.
+ *
+ * Dates and names are kept as packed {@link HolidayKeys} in primitive sets, so checking and
+ * recording a row allocates nothing.
+ */
+public class UploadValidationContext {
+
+    private final CountryRepository countryRepository;
+    private final FederalHolidayRepository federalHolidayRepository;
+
+    private final Map<String, CountryState> countries = new HashMap<>();
+    private final Map<String, Boolean> takenCountryNames = new HashMap<>();
+    private final LongHashSet holidayDates = new LongHashSet(1024);
+    private final LongHashSet holidayNames = new LongHashSet(1024);
+
+    UploadValidationContext(CountryRepository countryRepository, FederalHolidayRepository federalHolidayRepository) {
+        this.countryRepository = countryRepository;
+        this.federalHolidayRepository = federalHolidayRepository;
+    }
+
+    // The country code must already have been validated as 1-3 alphanumeric characters
+    public CountryState getCountry(String countryCode) {
+        CountryState state = countries.get(countryCode);
+        if (state == null) {
+            state = new CountryState(HolidayKeys.countryKey(countryCode));
+            Country country = countryRepository.findById(countryCode).orElse(null);
+            if (country != null) {
+                state.country = country;
+                for (HolidayKeyView holiday : federalHolidayRepository.findHolidayKeysByCountryCode(countryCode)) {
+                    state.holidaySaved(holiday.getHolidayDate(), holiday.getHolidayName());
+                }
+            }
+            countries.put(countryCode, state);
+        }
+        return state;
+    }
+
+    // Whether a country with this name already exists under any code
+    public boolean isCountryNameTaken(String countryName) {
+        return takenCountryNames.computeIfAbsent(countryName, countryRepository::existsByCountryName);
+    }
+
+    // Forgets everything loaded or recorded so far, e.g. after the rows recorded were rolled back
+    public void reset() {
+        countries.clear();
+        takenCountryNames.clear();
+        holidayDates.clear();
+        holidayNames.clear();
+    }
+
+    public void countryCreated(Country country) {
+        getCountry(country.getCountryCode()).country = country;
+        takenCountryNames.put(country.getCountryName(), Boolean.TRUE);
+    }
+
+    public final class CountryState {
+        private final long countryKey;
+        // null while the country does not exist
+        private Country country;
+
+        private CountryState(long countryKey) {
+            this.countryKey = countryKey;
+        }
+
+        public Country getCountry() {
+            return country;
+        }
+
+        public boolean hasHolidayDate(LocalDate holidayDate) {
+            return holidayDates.contains(HolidayKeys.dateKey(countryKey, holidayDate));
+        }
+
+        public boolean hasHolidayName(String holidayName) {
+            return holidayNames.contains(HolidayKeys.nameKey(countryKey, holidayName));
+        }
+
+        public void holidaySaved(LocalDate holidayDate, String holidayName) {
+            holidayDates.add(HolidayKeys.dateKey(countryKey, holidayDate));
+            holidayNames.add(HolidayKeys.nameKey(countryKey, holidayName));
+        }
+    }
+}
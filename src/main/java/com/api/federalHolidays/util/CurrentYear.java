@@ -0,0 +1,43 @@
+package com.api.federalHolidays.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * The current year in the clock's time zone, computed once per year instead of on every call.
+ * The first and last instant of the cached year are kept next to it, so the value rolls over
+ * at midnight on New Year's Eve (and follows the clock if it is set back) at the cost of one
+ * clock read per call.
+ */
+public final class CurrentYear {
+
+    private record Window(int year, long startMillis, long endMillis) {
+    }
+
+    private final Clock clock;
+    private volatile Window window;
+
+    public CurrentYear(Clock clock) {
+        this.clock = clock;
+    }
+
+    public int get() {
+        long now = clock.millis();
+        Window current = window;
+        if (current == null || now < current.startMillis() || now >= current.endMillis()) {
+            current = windowAt(now);
+            window = current;
+        }
+        return current.year();
+    }
+
+    private Window windowAt(long millis) {
+        ZoneId zone = clock.getZone();
+        int year = Instant.ofEpochMilli(millis).atZone(zone).getYear();
+        long start = LocalDate.of(year, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = LocalDate.of(year + 1, 1, 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Window(year, start, end);
+    }
+}
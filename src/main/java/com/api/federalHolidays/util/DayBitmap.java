@@ -0,0 +1,157 @@
+package com.api.federalHolidays.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One bit per day of a calendar year (bit 0 is January 1st), packed into six 64-bit words.
+ * Instances are immutable once built and keep a running popcount per word, so counting the
+ * set days before any position (rank) or finding the k-th set day (select) costs the same
+ * for any position in the year.
+ */
+public final class DayBitmap {
+
+    // 6 * 64 = 384 bits, enough for a leap year
+    public static final int WORDS = 6;
+
+    private static final ConcurrentHashMap<Integer, DayBitmap> WEEKDAYS = new ConcurrentHashMap<>();
+
+    private final int year;
+    private final long[] words;
+    // prefix[i] = number of set bits in words[0..i)
+    private final int[] prefix;
+
+    private DayBitmap(int year, long[] words) {
+        this.year = year;
+        this.words = words;
+        this.prefix = new int[WORDS + 1];
+        for (int i = 0; i < WORDS; i++) {
+            prefix[i + 1] = prefix[i] + Long.bitCount(words[i]);
+        }
+    }
+
+    // Takes ownership of the array; callers must not modify it afterwards
+    public static DayBitmap of(int year, long[] words) {
+        if (words.length != WORDS) {
+            throw new IllegalArgumentException("Expected " + WORDS + " words, found " + words.length);
+        }
+        return new DayBitmap(year, words);
+    }
+
+    public static DayBitmap empty(int year) {
+        return new DayBitmap(year, new long[WORDS]);
+    }
+
+    public static void set(long[] words, LocalDate date) {
+        int index = date.getDayOfYear() - 1;
+        words[index >>> 6] |= 1L << index;
+    }
+
+    // Monday to Friday of the given year; shared instances, built once per year
+    public static DayBitmap weekdays(int year) {
+        return WEEKDAYS.computeIfAbsent(year, DayBitmap::buildWeekdays);
+    }
+
+    private static DayBitmap buildWeekdays(int year) {
+        long[] words = new long[WORDS];
+        int length = Year.of(year).length();
+        DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+        for (int index = 0; index < length; index++) {
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                words[index >>> 6] |= 1L << index;
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        return new DayBitmap(year, words);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public boolean contains(LocalDate date) {
+        return date.getYear() == year && get(date.getDayOfYear() - 1);
+    }
+
+    // Zero-based day index within the year
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int cardinality() {
+        return prefix[WORDS];
+    }
+
+    // Number of set days with an index lower than the given one
+    public int rank(int index) {
+        int word = index >>> 6;
+        if (word >= WORDS) {
+            return cardinality();
+        }
+        return prefix[word] + Long.bitCount(words[word] & ((1L << index) - 1));
+    }
+
+    // Index of the k-th set day (k starting at 0), or -1 when fewer days are set
+    public int select(int k) {
+        if (k < 0 || k >= cardinality()) {
+            return -1;
+        }
+        int word = 0;
+        while (prefix[word + 1] <= k) {
+            word++;
+        }
+        long bits = words[word];
+        for (int skip = k - prefix[word]; skip > 0; skip--) {
+            bits &= bits - 1;
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public LocalDate toDate(int index) {
+        return LocalDate.ofYearDay(year, index + 1);
+    }
+
+    public DayBitmap and(DayBitmap other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new DayBitmap(year, result);
+    }
+
+    public DayBitmap or(DayBitmap other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new DayBitmap(year, result);
+    }
+
+    public DayBitmap andNot(DayBitmap other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new DayBitmap(year, result);
+    }
+
+    public long[] toWords() {
+        return words.clone();
+    }
+
+    public List<LocalDate> toDates() {
+        List<LocalDate> dates = new ArrayList<>(cardinality());
+        for (int word = 0; word < WORDS; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                dates.add(toDate((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,68 @@
+package com.api.federalHolidays.util;
+
+import java.time.LocalDate;
+
+/**
+ * Packs the identifying parts of a holiday into single longs for {@link LongHashSet}.
+ * A 1-3 character alphanumeric country code fits in 18 bits (6 bits per character, 0 for
+ * no character), leaving room for the epoch day of the holiday date next to it. Names do
+ * not fit, so the name key is a 64-bit hash of country and name: distinct names can share a
+ * key, but for a million rows the chance of any collision is in the order of 10^-8.
+ */
+public final class HolidayKeys {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private HolidayKeys() {
+    }
+
+    // 18-bit key of a country code, or -1 when the code is not 1-3 ASCII letters or digits
+    public static long countryKey(String countryCode) {
+        int length = countryCode.length();
+        if (length < 1 || length > 3) {
+            return -1;
+        }
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            int value = charValue(countryCode.charAt(i));
+            if (value < 0) {
+                return -1;
+            }
+            key = (key << 6) | value;
+        }
+        return key;
+    }
+
+    public static long dateKey(long countryKey, LocalDate holidayDate) {
+        return (countryKey << 40) | (holidayDate.toEpochDay() & 0xFF_FFFF_FFFFL);
+    }
+
+    public static long nameKey(long countryKey, String holidayName) {
+        long hash = FNV_OFFSET_BASIS ^ countryKey;
+        for (int i = 0; i < holidayName.length(); i++) {
+            hash = (hash ^ holidayName.charAt(i)) * FNV_PRIME;
+        }
+        // Final avalanche (MurmurHash3 fmix64) so similar names differ in every bit
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    // 1-10 for digits, 11-36 for upper case, 37-62 for lower case letters
+    private static int charValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 37;
+        }
+        return -1;
+    }
+}
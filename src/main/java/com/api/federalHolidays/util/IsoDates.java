@@ -0,0 +1,103 @@
+package com.api.federalHolidays.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Strict yyyy-MM-dd parsing shared by the request validators, the services and the upload
+ * readers. It accepts exactly what DateTimeFormatter.ofPattern("uuuu-MM-dd") with
+ * ResolverStyle.STRICT accepts: four-digit year, two-digit month and day, and a day that
+ * exists in that month. Invalid input is reported as -1 or null rather than thrown, and the
+ * checks only read characters, so validating a date allocates nothing; parse allocates just
+ * the resulting LocalDate.
+ */
+public final class IsoDates {
+
+    private static final CurrentYear CURRENT_YEAR = new CurrentYear(Clock.systemDefaultZone());
+
+    private IsoDates() {
+    }
+
+    // Year of a valid yyyy-MM-dd date, or -1 when the text is not one
+    public static int year(CharSequence text) {
+        int packed = pack(text);
+        return packed < 0 ? -1 : packed >>> 9;
+    }
+
+    public static boolean isValid(CharSequence text) {
+        return pack(text) >= 0;
+    }
+
+    // The date, or null when the text is not a valid yyyy-MM-dd date
+    public static LocalDate parse(CharSequence text) {
+        return toDate(pack(text));
+    }
+
+    // Same rules for the ASCII bytes between start (inclusive) and end (exclusive)
+    public static LocalDate parse(byte[] bytes, int start, int end) {
+        if (end - start != 10 || bytes[start + 4] != '-' || bytes[start + 7] != '-') {
+            return null;
+        }
+        return toDate(pack(digits(bytes, start, 4), digits(bytes, start + 5, 2), digits(bytes, start + 8, 2)));
+    }
+
+    // Year of the system clock in the default time zone; rolls over at midnight on New Year's Eve
+    public static int currentYear() {
+        return CURRENT_YEAR.get();
+    }
+
+    public static boolean isCurrentYear(LocalDate date) {
+        return date.getYear() == currentYear();
+    }
+
+    private static int pack(CharSequence text) {
+        if (text == null || text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return -1;
+        }
+        return pack(digits(text, 0, 4), digits(text, 5, 2), digits(text, 8, 2));
+    }
+
+    // year << 9 | month << 5 | day, or -1 when a part is missing or the day does not exist
+    private static int pack(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > monthLength(year, month)) {
+            return -1;
+        }
+        return year << 9 | month << 5 | day;
+    }
+
+    private static LocalDate toDate(int packed) {
+        return packed < 0 ? null : LocalDate.of(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    private static int monthLength(int year, int month) {
+        return switch (month) {
+            case 2 -> ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int digits(byte[] bytes, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
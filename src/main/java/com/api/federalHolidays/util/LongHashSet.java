@@ -0,0 +1,114 @@
+package com.api.federalHolidays.util;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive longs using open addressing with linear probing. No object is
+ * allocated per element, so it suits per-row bookkeeping in bulk uploads. Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    // 0 marks an empty slot; the key 0 itself is tracked separately
+    private long[] slots;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+    private int shift;
+    private int resizeAt;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    // Returns true if the key was not present
+    public boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = indexOf(key);
+        while (slots[index] != 0) {
+            if (slots[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = key;
+        if (++size >= resizeAt) {
+            rehash(slots.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        int index = indexOf(key);
+        while (slots[index] != 0) {
+            if (slots[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(slots, 0L);
+        containsZero = false;
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        // Fibonacci hashing spreads sequential keys such as consecutive epoch days
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private void rehash(int capacity) {
+        long[] old = slots;
+        allocate(capacity);
+        for (long key : old) {
+            if (key != 0) {
+                int index = indexOf(key);
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new long[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(capacity) + 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR <= expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
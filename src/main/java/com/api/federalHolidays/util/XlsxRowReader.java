@@ -0,0 +1,131 @@
+package com.api.federalHolidays.util;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads the first sheet of an .xlsx file row by row with POI's SAX event API instead of
+ * building an XSSFWorkbook. Only the current row and the shared strings are held in memory,
+ * so heap use does not grow with the number of rows. The shared strings are kept as plain
+ * strings without their phonetic runs, one per distinct cell text rather than per cell.
+ *
+ * Callers holding the upload as a file should pass it directly: the stream variant first
+ * copies the whole stream to a temporary file.
+ */
+public final class XlsxRowReader {
+
+    private XlsxRowReader() {
+    }
+
+    // Passes every row after the header (row 0) to the consumer as a list of cell strings
+    public static void read(InputStream inputStream, Consumer<List<String>> rowConsumer) throws IOException {
+        // The zip needs random access; reading it from a stream would inflate every part in memory
+        Path spooled = Files.createTempFile("holiday-upload-", ".xlsx");
+        try {
+            Files.copy(inputStream, spooled, StandardCopyOption.REPLACE_EXISTING);
+            read(spooled.toFile(), rowConsumer);
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    public static void read(File file, Consumer<List<String>> rowConsumer) throws IOException {
+        try {
+            OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ);
+            try {
+                read(pkg, rowConsumer);
+            } finally {
+                // close() would try to save a read-only package
+                pkg.revert();
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Invalid Excel file: " + e.getMessage(), e);
+        }
+    }
+
+    private static void read(OPCPackage pkg, Consumer<List<String>> rowConsumer)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        // Phonetic runs (rPh) are skipped; only the text of each string is kept
+        ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            return;
+        }
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null, sharedStrings,
+                    new RowHandler(rowConsumer), new IsoDateFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        }
+    }
+
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<List<String>> rowConsumer;
+        private final List<String> row = new ArrayList<>();
+
+        private RowHandler(Consumer<List<String>> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            row.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == 0) {
+                return; // Skip header row
+            }
+            rowConsumer.accept(new ArrayList<>(row));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? row.size() : new CellReference(cellReference).getCol();
+            // Blank cells are not reported; keep the remaining values in their columns
+            while (row.size() < column) {
+                row.add("");
+            }
+            row.add(formattedValue == null ? "" : formattedValue);
+        }
+    }
+
+    // Date-formatted numeric cells come out as yyyy-MM-dd whatever display format the sheet uses
+    private static final class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
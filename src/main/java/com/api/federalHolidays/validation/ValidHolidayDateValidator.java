@@ -1,8 +1,9 @@
 package com.api.federalHolidays.validation;
 
-import com.api.federalHolidays.util.DateValidator;
+import com.api.federalHolidays.util.IsoDates;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 
 public class ValidHolidayDateValidator implements ConstraintValidator<ValidHolidayDate, String> {
 
@@ -12,15 +13,21 @@ public class ValidHolidayDateValidator implements ConstraintValidator<ValidHolid
             return false; // Null or empty values are invalid
         }
 
-        try {
-            // Validate and parse the date
-            DateValidator.validateAndParseDate(dateStr);
+        // Validate the date without parsing it into a LocalDate; year is -1 when the date is invalid
+        int year = IsoDates.year(dateStr);
+        if (year == IsoDates.currentYear()) {
             return true; // Date is valid
-        } catch (IllegalArgumentException e) {
-            // Set the error message in the context
-            context.disableDefaultConstraintViolation();
-            context.buildConstraintViolationWithTemplate(e.getMessage()).addConstraintViolation();
-            return false; // Date is invalid
         }
+        // Set the error message in the context, worded like DateValidator.validateAndParseDate.
+        // The provided text goes in as a parameter so it is not interpolated as part of the template.
+        String message = year < 0
+                ? "Invalid date or Holiday date must be in the format yyyy-MM-dd. Provided: {provided}"
+                : "Holiday date must be within the current year. Provided: {provided}";
+        HibernateConstraintValidatorContext hibernateContext = context.unwrap(HibernateConstraintValidatorContext.class);
+        hibernateContext.disableDefaultConstraintViolation();
+        hibernateContext.addMessageParameter("provided", dateStr)
+                .buildConstraintViolationWithTemplate(message)
+                .addConstraintViolation();
+        return false; // Date is invalid
     }
 }
\ No newline at end of file
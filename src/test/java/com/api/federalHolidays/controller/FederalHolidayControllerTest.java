@@ -8,11 +8,14 @@ import com.api.federalHolidays.exception.InvalidInputException;
 import com.api.federalHolidays.exception.ResourceNotFoundException;
 import com.api.federalHolidays.service.FederalHolidayService;
 import com.api.federalHolidays.dto.FederalHolidayRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -21,11 +24,14 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -41,6 +47,10 @@ public class FederalHolidayControllerTest {
     @Mock
     private FederalHolidayService federalHolidayService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     @InjectMocks
     private FederalHolidayController federalHolidayController;
 
@@ -71,6 +81,30 @@ public class FederalHolidayControllerTest {
         assertThrows(ResourceNotFoundException.class, () -> federalHolidayController.getAllHolidays());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamAllHolidays_WritesOneJsonObjectPerLine() throws Exception {
+        FederalHolidayResponse response1 = new FederalHolidayResponse(1L, "001", "USA", LocalDate.of(2025, 1, 1), "New Year", "Success");
+        FederalHolidayResponse response2 = new FederalHolidayResponse(2L, "002", "Canada", LocalDate.of(2025, 7, 1), "Canada Day", "Success");
+        doAnswer(invocation -> {
+            Consumer<FederalHolidayResponse> consumer = invocation.getArgument(0);
+            consumer.accept(response1);
+            consumer.accept(response2);
+            return null;
+        }).when(federalHolidayService).streamAllHolidays(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = federalHolidayController.streamAllHolidays();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"holidayName\":\"New Year\""));
+        assertTrue(lines[1].contains("\"holidayDate\":\"2025-07-01\""));
+    }
+
     // Test for getHolidaysByCountryCode
     @Test
     public void testGetHolidaysByCountryCode_Success() {
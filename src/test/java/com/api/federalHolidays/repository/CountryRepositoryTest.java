@@ -0,0 +1,63 @@
+package com.api.federalHolidays.repository;
+
+import com.api.federalHolidays.entity.Country;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class CountryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        Country country = new Country();
+        country.setCountryCode("001");
+        country.setCountryName("United States");
+        testEntityManager.persistAndFlush(country);
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindById_SecondLookupServedFromSecondLevelCache() {
+        assertTrue(countryRepository.findById("001").isPresent());
+        testEntityManager.clear();
+        assertTrue(countryRepository.findById("001").isPresent());
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testDeleteById_EvictsCachedCountry() {
+        assertTrue(countryRepository.findById("001").isPresent());
+        testEntityManager.clear();
+
+        countryRepository.deleteById("001");
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertFalse(countryRepository.findById("001").isPresent());
+        assertFalse(countryRepository.existsByCountryName("United States"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.federalHolidays.repository;
+
+import com.api.federalHolidays.entity.Country;
+import com.api.federalHolidays.entity.FederalHoliday;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Asserts that holiday read paths run a fixed number of statements regardless of row and country count
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class FederalHolidayRepositoryTest {
+
+    private static final int COUNTRIES = 4;
+    private static final int HOLIDAYS_PER_COUNTRY = 5;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FederalHolidayRepository federalHolidayRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        for (int c = 0; c < COUNTRIES; c++) {
+            Country country = new Country();
+            country.setCountryCode("C" + c);
+            country.setCountryName("Country " + c);
+            testEntityManager.persist(country);
+            for (int h = 0; h < HOLIDAYS_PER_COUNTRY; h++) {
+                LocalDate date = LocalDate.of(2025, 1, 1).plusDays(h * 30L);
+                FederalHoliday holiday = new FederalHoliday(null, country.getCountryName(), date, "Holiday " + h,
+                        country.getCountryCode(), date.getDayOfWeek().toString(), null);
+                testEntityManager.persist(holiday);
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAll_SingleStatement() {
+        List<FederalHoliday> holidays = federalHolidayRepository.findAll();
+
+        assertEquals(COUNTRIES * HOLIDAYS_PER_COUNTRY, holidays.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindByCountryCode_SingleStatement() {
+        List<FederalHoliday> holidays = federalHolidayRepository.findByCountryCode("C1");
+
+        assertEquals(HOLIDAYS_PER_COUNTRY, holidays.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testStreamAll_SingleStatement() {
+        long count;
+        try (Stream<FederalHoliday> holidays = federalHolidayRepository.streamAll()) {
+            count = holidays.map(FederalHoliday::getHolidayName).count();
+        }
+
+        assertEquals(COUNTRIES * HOLIDAYS_PER_COUNTRY, count);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindByCountryCodeInAndHolidayDateBetween_SingleStatement() {
+        PageRequest page = PageRequest.of(0, 3, Sort.by("holidayDate", "countryCode"));
+
+        List<FederalHoliday> holidays = federalHolidayRepository.findByCountryCodeInAndHolidayDateBetween(
+                Set.of("C0", "C2"), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31), page);
+
+        assertEquals(3, holidays.size());
+        assertEquals(LocalDate.of(2025, 1, 1), holidays.get(0).getHolidayDate());
+        assertEquals("C0", holidays.get(0).getCountryCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,133 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.BusinessDayCountResponse;
+import com.api.federalHolidays.dto.BusinessDayResponse;
+import com.api.federalHolidays.dto.FederalHolidayResponse;
+import com.api.federalHolidays.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class BusinessDayServiceImplTest {
+
+    @Mock
+    private FederalHolidayService federalHolidayService;
+
+    @InjectMocks
+    private BusinessDayServiceImpl businessDayService;
+
+    private CountryCalendar calendar;
+
+    @BeforeEach
+    public void setup() {
+        // 2025-01-01 is a Wednesday
+        FederalHolidayResponse newYear = new FederalHolidayResponse(1L, "001", "United States", LocalDate.of(2025, 1, 1), "New Year", "Holiday fetched successfully");
+        calendar = new CountryCalendar("001", List.of(newYear));
+        lenient().when(federalHolidayService.getCountryCalendar("001")).thenReturn(calendar);
+    }
+
+    @Test
+    public void testNextBusinessDay_SkipsHoliday() {
+        BusinessDayResponse response = businessDayService.nextBusinessDay("001", "2024-12-31");
+
+        assertEquals(LocalDate.of(2025, 1, 2), response.getResultDate());
+    }
+
+    @Test
+    public void testAddBusinessDays_SkipsWeekend() {
+        BusinessDayResponse response = businessDayService.addBusinessDays("001", "2025-01-03", 1);
+
+        assertEquals(LocalDate.of(2025, 1, 6), response.getResultDate());
+    }
+
+    @Test
+    public void testAddBusinessDays_NegativeCrossesYearAndHoliday() {
+        BusinessDayResponse response = businessDayService.addBusinessDays("001", "2025-01-02", -1);
+
+        assertEquals(LocalDate.of(2024, 12, 31), response.getResultDate());
+    }
+
+    @Test
+    public void testAddBusinessDays_ZeroReturnsSameDate() {
+        BusinessDayResponse response = businessDayService.addBusinessDays("001", "2025-01-04", 0);
+
+        assertEquals(LocalDate.of(2025, 1, 4), response.getResultDate());
+    }
+
+    @Test
+    public void testAddBusinessDays_TooManyDays_Failure() {
+        CustomException exception = assertThrows(CustomException.class, () ->
+                businessDayService.addBusinessDays("001", "2025-01-02", 2_000_000));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    public void testBusinessDaysBetween_AcrossYearBoundary() {
+        BusinessDayCountResponse response = businessDayService.businessDaysBetween("001", "2024-12-30", "2025-01-06");
+
+        assertEquals(4, response.getBusinessDays());
+    }
+
+    @Test
+    public void testBusinessDaysBetween_ReversedRangeIsNegative() {
+        BusinessDayCountResponse response = businessDayService.businessDaysBetween("001", "2025-01-06", "2024-12-30");
+
+        assertEquals(-4, response.getBusinessDays());
+    }
+
+    @Test
+    public void testBusinessDaysBetween_TenYearsMatchesDayByDayCount() {
+        LocalDate from = LocalDate.of(2020, 3, 15);
+        LocalDate to = LocalDate.of(2030, 8, 20);
+        long expected = 0;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (!weekend && !day.equals(LocalDate.of(2025, 1, 1))) {
+                expected++;
+            }
+        }
+
+        assertEquals(expected, businessDayService.businessDaysBetween("001", from.toString(), to.toString()).getBusinessDays());
+        // the last business day before 2030-08-20 (a Tuesday) is reached by stepping the same count
+        assertEquals(LocalDate.of(2030, 8, 19), BusinessDayServiceImpl.addBusinessDays(calendar, from.minusDays(1), (int) expected));
+    }
+
+    @Test
+    public void testCountBusinessDays_WeekendAndRepeatedHolidaysCountedOnce() {
+        // 2026-07-04 is a Saturday; 2027-12-24 has two holidays
+        CountryCalendar holidays = new CountryCalendar("001", List.of(
+                new FederalHolidayResponse(1L, "001", "United States", LocalDate.of(2026, 7, 4), "Independence Day", "Holiday fetched successfully"),
+                new FederalHolidayResponse(2L, "001", "United States", LocalDate.of(2027, 12, 24), "Christmas Eve", "Holiday fetched successfully"),
+                new FederalHolidayResponse(3L, "001", "United States", LocalDate.of(2027, 12, 24), "Office Closed", "Holiday fetched successfully"),
+                new FederalHolidayResponse(4L, "001", "United States", LocalDate.of(1960, 1, 4), "Founders Day", "Holiday fetched successfully")));
+        LocalDate start = LocalDate.of(1959, 12, 26);
+        for (LocalDate from = start; from.isBefore(start.plusDays(10)); from = from.plusDays(1)) {
+            for (LocalDate to : List.of(from, LocalDate.of(1960, 1, 4), LocalDate.of(1960, 1, 5), LocalDate.of(2027, 12, 24),
+                    LocalDate.of(2027, 12, 25), LocalDate.of(2031, 6, 1))) {
+                if (to.isBefore(from)) {
+                    continue;
+                }
+                long expected = 0;
+                for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                    boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+                    if (!weekend && !holidays.isHoliday(day)) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, BusinessDayServiceImpl.countBusinessDays(holidays, from, to), from + " to " + to);
+            }
+        }
+    }
+}
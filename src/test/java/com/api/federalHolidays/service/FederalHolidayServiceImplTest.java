@@ -1,15 +1,22 @@
 package com.api.federalHolidays.service;
 
 
+import com.api.federalHolidays.dto.CalendarSetOperation;
+import com.api.federalHolidays.dto.CalendarSetResponse;
 import com.api.federalHolidays.dto.FederalHolidayRequest;
 import com.api.federalHolidays.dto.FederalHolidayResponse;
 import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.HolidayBatchCheckResponse;
+import com.api.federalHolidays.dto.HolidayCheckRequest;
+import com.api.federalHolidays.dto.UploadMode;
 import com.api.federalHolidays.entity.Country;
 import com.api.federalHolidays.entity.FederalHoliday;
 import com.api.federalHolidays.exception.*;
 import com.api.federalHolidays.repository.CountryRepository;
 import com.api.federalHolidays.repository.FederalHolidayRepository;
 import com.api.federalHolidays.util.DateValidator;
+import jakarta.persistence.EntityManager;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -20,23 +27,39 @@ import org.junit.jupiter.api.extension.Extensions;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +72,12 @@ public class FederalHolidayServiceImplTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Spy
+    private HolidayCalendarCache holidayCalendarCache = new HolidayCalendarCache();
+
+    @Spy
+    private UploadReportService uploadReportService = newUploadReportService();
+
     @InjectMocks
     private FederalHolidayServiceImpl federalHolidayService;
 
@@ -129,6 +158,133 @@ public class FederalHolidayServiceImplTest {
 
         verify(federalHolidayRepository, times(1)).findByCountryCode(countryCode);
     }
+    @Test
+    public void testGetHolidaysByCountryCode_SecondCallServedFromCache() {
+        String countryCode = "001";
+        FederalHoliday holiday = new FederalHoliday();
+        holiday.setId(1L);
+        holiday.setCountryCode("001");
+        holiday.setCountryName("United States");
+        holiday.setHolidayDate(LocalDate.of(2025, 1, 1));
+        holiday.setHolidayName("New Year");
+
+        when(federalHolidayRepository.findByCountryCode(countryCode)).thenReturn(List.of(holiday));
+
+        List<FederalHolidayResponse> first = federalHolidayService.getHolidaysByCountryCode(countryCode);
+        List<FederalHolidayResponse> second = federalHolidayService.getHolidaysByCountryCode(countryCode);
+
+        assertSame(first, second);
+        assertEquals(1, federalHolidayService.getCalendarCacheStats().getHits());
+        assertEquals(1, federalHolidayService.getCalendarCacheStats().getMisses());
+        verify(federalHolidayRepository, times(1)).findByCountryCode(countryCode);
+    }
+
+    @Test
+    public void testIsHoliday_AnswersFromCachedBitmap() {
+        FederalHoliday holiday = new FederalHoliday();
+        holiday.setId(1L);
+        holiday.setCountryCode("001");
+        holiday.setCountryName("United States");
+        holiday.setHolidayDate(LocalDate.of(2024, 12, 31));
+        holiday.setHolidayName("New Year's Eve");
+
+        when(federalHolidayRepository.findByCountryCode("001")).thenReturn(List.of(holiday));
+
+        assertTrue(federalHolidayService.isHoliday("001", "2024-12-31").isHoliday());
+        assertFalse(federalHolidayService.isHoliday("001", "2024-12-30").isHoliday());
+        assertFalse(federalHolidayService.isHoliday("001", "2025-12-31").isHoliday());
+        verify(federalHolidayRepository, times(1)).findByCountryCode("001");
+    }
+
+    @Test
+    public void testIsHolidayBatch_ResolvesEachCountryOnce() {
+        FederalHoliday holiday = new FederalHoliday();
+        holiday.setId(1L);
+        holiday.setCountryCode("001");
+        holiday.setCountryName("United States");
+        holiday.setHolidayDate(LocalDate.of(2025, 7, 4));
+        holiday.setHolidayName("Independence Day");
+
+        when(federalHolidayRepository.findByCountryCode("001")).thenReturn(List.of(holiday));
+        when(federalHolidayRepository.findByCountryCode("999")).thenReturn(List.of());
+
+        HolidayBatchCheckResponse response = federalHolidayService.isHolidayBatch(List.of(
+                new HolidayCheckRequest("001", LocalDate.of(2025, 7, 4)),
+                new HolidayCheckRequest("999", LocalDate.of(2025, 7, 4)),
+                new HolidayCheckRequest("001", LocalDate.of(2025, 7, 5)),
+                new HolidayCheckRequest("999", LocalDate.of(2025, 7, 5)),
+                new HolidayCheckRequest("001", LocalDate.of(2025, 7, 4))));
+
+        assertEquals(5, response.getTotal());
+        assertEquals(2, response.getHolidayCount());
+        assertArrayEquals(new boolean[]{true, false, false, false, true}, response.getHolidays());
+        verify(federalHolidayRepository, times(1)).findByCountryCode("001");
+        verify(federalHolidayRepository, times(1)).findByCountryCode("999");
+    }
+
+    @Test
+    public void testIsHolidayBatch_MissingDate_Failure() {
+        CustomException exception = assertThrows(CustomException.class, () ->
+                federalHolidayService.isHolidayBatch(List.of(new HolidayCheckRequest("001", null))));
+        assertEquals("Country code and date are required for every pair. Missing at index: 0", exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    public void testGetHolidaysInRange_PushesFilterSortAndLimitToRepository() {
+        FederalHoliday holiday = new FederalHoliday();
+        holiday.setId(1L);
+        holiday.setCountryCode("001");
+        holiday.setCountryName("United States");
+        holiday.setHolidayDate(LocalDate.of(2025, 7, 4));
+        holiday.setHolidayName("Independence Day");
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 9, 30);
+        PageRequest page = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "holidayDate").and(Sort.by(Sort.Direction.ASC, "countryCode")));
+
+        when(federalHolidayRepository.findByCountryCodeInAndHolidayDateBetween(Set.of("001", "002"), from, to, page)).thenReturn(List.of(holiday));
+
+        List<FederalHolidayResponse> response = federalHolidayService.getHolidaysInRange(List.of("001", "002"), "2025-07-01", "2025-09-30", 10, Sort.Direction.ASC);
+
+        assertEquals(1, response.size());
+        assertEquals("Independence Day", response.get(0).getHolidayName());
+    }
+
+    @Test
+    public void testGetHolidaysInRange_FromAfterTo_Failure() {
+        CustomException exception = assertThrows(CustomException.class, () ->
+                federalHolidayService.getHolidaysInRange(List.of("001"), "2025-09-30", "2025-07-01", 10, Sort.Direction.ASC));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(federalHolidayRepository, never()).findByCountryCodeInAndHolidayDateBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testCombineCalendars_UnionIntersectionAndDifference() {
+        FederalHoliday usNewYear = new FederalHoliday(1L, "United States", LocalDate.of(2025, 1, 1), "New Year", "001", "Wednesday", null);
+        FederalHoliday usIndependence = new FederalHoliday(2L, "United States", LocalDate.of(2025, 7, 4), "Independence Day", "001", "Friday", null);
+        FederalHoliday caNewYear = new FederalHoliday(3L, "Canada", LocalDate.of(2025, 1, 1), "New Year", "002", "Wednesday", null);
+        FederalHoliday caDay = new FederalHoliday(4L, "Canada", LocalDate.of(2025, 7, 1), "Canada Day", "002", "Tuesday", null);
+
+        when(federalHolidayRepository.findByCountryCode("001")).thenReturn(List.of(usNewYear, usIndependence));
+        when(federalHolidayRepository.findByCountryCode("002")).thenReturn(List.of(caNewYear, caDay));
+
+        CalendarSetResponse union = federalHolidayService.combineCalendars(List.of("001", "002"), CalendarSetOperation.UNION, 2025);
+        CalendarSetResponse intersection = federalHolidayService.combineCalendars(List.of("001", "002"), CalendarSetOperation.INTERSECTION, 2025);
+        CalendarSetResponse difference = federalHolidayService.combineCalendars(List.of("001", "002"), CalendarSetOperation.DIFFERENCE, 2025);
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 4)), union.getDates());
+        assertEquals(List.of(LocalDate.of(2025, 1, 1)), intersection.getDates());
+        assertEquals(1L, intersection.getBitmap()[0]);
+        assertEquals(List.of(LocalDate.of(2025, 7, 4)), difference.getDates());
+        assertTrue(federalHolidayService.combineCalendars(List.of("001", "002"), CalendarSetOperation.UNION, 2024).getDates().isEmpty());
+    }
+
+    @Test
+    public void testIsHoliday_InvalidDate_Failure() {
+        CustomException exception = assertThrows(CustomException.class, () -> federalHolidayService.isHoliday("001", "2025-02-30"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
     @Test
     public void testGetHolidaysByCountryCode_CountryCodeNotFound_Failure() {
         String countryCode = "003"; 
@@ -739,6 +895,479 @@ country.setCountryName("United States");
         assertEquals(1, response.getFileResults().get(0).getFailedRecords());
     }
 
+    // Success Scenario: Date-formatted Excel cells are read as yyyy-MM-dd
+    @Test
+    public void testUploadHolidays_Excel_DateFormattedCell() throws IOException {
+        LocalDate holidayDate = LocalDate.of(LocalDate.now().getYear(), 7, 4);
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Holidays");
+        Row headerRow = sheet.createRow(0);
+        headerRow.createCell(0).setCellValue("countryCode");
+        headerRow.createCell(1).setCellValue("countryName");
+        headerRow.createCell(2).setCellValue("holidayDate");
+        headerRow.createCell(3).setCellValue("holidayName");
+
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+        Row dataRow = sheet.createRow(1);
+        dataRow.createCell(0).setCellValue("001");
+        dataRow.createCell(1).setCellValue("United States");
+        dataRow.createCell(2).setCellValue(holidayDate);
+        dataRow.getCell(2).setCellStyle(dateStyle);
+        dataRow.createCell(3).setCellValue("Independence Day");
+
+        MultipartFile file = new MockMultipartFile("file", "test.xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", workbookToByteArray(workbook));
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(Collections.singletonList(file));
+
+        assertEquals(1, response.getFileResults().get(0).getTotalRecords());
+        assertEquals(1, response.getFileResults().get(0).getSuccessRecords());
+        verify(federalHolidayRepository).save(argThat(holiday -> holidayDate.equals(holiday.getHolidayDate())));
+    }
+
+    // Success Scenario: Existing country state is loaded once per upload, not once per row
+    @Test
+    public void testUploadHolidays_LoadsCountryOncePerUpload() {
+        int year = LocalDate.now().getYear();
+        Country country = new Country();
+        country.setCountryCode("001");
+        country.setCountryName("United States");
+        when(countryRepository.findById("001")).thenReturn(Optional.of(country));
+        when(federalHolidayRepository.findHolidayKeysByCountryCode("001")).thenReturn(Collections.emptyList());
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,New Year\n"
+                + "001,United States," + year + "-07-04,Independence Day\n"
+                + "001,United States," + year + "-07-04,Duplicate Date\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("file", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(Collections.singletonList(file));
+
+        assertEquals(3, response.getFileResults().get(0).getSuccessRecords());
+        assertEquals(1, response.getFileResults().get(0).getDuplicateRecords());
+        verify(countryRepository, times(1)).findById("001");
+        verify(federalHolidayRepository, times(1)).findHolidayKeysByCountryCode("001");
+        verify(federalHolidayRepository, never()).existsByCountryCodeAndHolidayDate(any(), any());
+        verify(federalHolidayRepository, never()).existsByCountryCodeAndHolidayName(any(), any());
+    }
+
+    // Success Scenario: Parallel upload keeps file order and saves files sharing a country in upload order
+    @Test
+    public void testUploadHolidays_Parallel_FilesSharingCountrySavedInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(federalHolidayService, "uploadExecutor", executor);
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        int year = LocalDate.now().getYear();
+        List<String> savedNames = Collections.synchronizedList(new ArrayList<>());
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> {
+            FederalHoliday holiday = invocation.getArgument(0);
+            savedNames.add(holiday.getHolidayName());
+            return holiday;
+        });
+
+        MultipartFile first = new MockMultipartFile("files", "first.csv", "text/csv",
+                ("countryCode,countryName,holidayDate,holidayName\n"
+                        + "001,United States," + year + "-01-01,First A\n"
+                        + "001,United States," + year + "-01-02,First B").getBytes());
+        MultipartFile other = new MockMultipartFile("files", "other.csv", "text/csv",
+                ("countryCode,countryName,holidayDate,holidayName\n"
+                        + "002,Canada," + year + "-07-01,Canada Day").getBytes());
+        MultipartFile second = new MockMultipartFile("files", "second.csv", "text/csv",
+                ("countryCode,countryName,holidayDate,holidayName\n"
+                        + "001,United States," + year + "-01-03,Second A").getBytes());
+
+        try {
+            FileUploadResponse response = federalHolidayService.uploadHolidays(List.of(first, other, second), UploadMode.PARALLEL);
+
+            assertEquals(List.of("first.csv", "other.csv", "second.csv"),
+                    response.getFileResults().stream().map(FileUploadResponse.FileResult::getFileName).toList());
+            assertEquals(2, response.getFileResults().get(0).getSuccessRecords());
+            assertEquals(1, response.getFileResults().get(1).getSuccessRecords());
+            assertEquals(1, response.getFileResults().get(2).getSuccessRecords());
+            assertTrue(savedNames.indexOf("First B") < savedNames.indexOf("Second A"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Error Scenario: A chunk whose commit fails is reported as failed without affecting the next chunk
+    @Test
+    public void testUploadHolidays_Chunked_FailedChunkRolledBackOnItsOwn() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        doThrow(new TransactionSystemException("commit failed")).doNothing().when(transactionManager).commit(any());
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(federalHolidayService, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(federalHolidayService, "uploadChunkSize", 2);
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById("001")).thenReturn(Optional.empty());
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,New Year\n"
+                + "001,United States," + year + "-07-04,Independence Day\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(List.of(file), UploadMode.CHUNKED);
+
+        FileUploadResponse.FileResult fileResult = response.getFileResults().get(0);
+        assertEquals(3, fileResult.getTotalRecords());
+        assertEquals(1, fileResult.getSuccessRecords());
+        assertEquals(2, fileResult.getFailedRecords());
+        assertEquals(List.of(1, 2), fileResult.getFailedRecordsDetails().stream().map(FileUploadResponse.FileResult.FailedRecord::getRowNumber).toList());
+        assertEquals(2, fileResult.getChunkResults().size());
+        assertFalse(fileResult.getChunkResults().get(0).isCommitted());
+        assertEquals(3, fileResult.getChunkResults().get(1).getFirstRow());
+        assertTrue(fileResult.getChunkResults().get(1).isCommitted());
+        assertEquals(1, fileResult.getChunkResults().get(1).getSuccessRecords());
+        // The country created in the rolled-back chunk is looked up again
+        verify(countryRepository, times(2)).findById("001");
+    }
+
+    // Error Scenario: A constraint violation at a batch flush fails the upload instead of being blamed on a row
+    @Test
+    public void testUploadHolidays_BatchFlushViolationFailsUpload() {
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(federalHolidayService, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(federalHolidayService, "uploadBatchSize", 2);
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById("001")).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("unique constraint")).when(federalHolidayRepository).flush();
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,New Year\n"
+                + "001,United States," + year + "-07-04,Independence Day\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> federalHolidayService.uploadHolidays(List.of(file), UploadMode.SEQUENTIAL));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+    }
+
+    // Error Scenario: In CHUNKED mode the same violation rolls back only the chunk being flushed
+    @Test
+    public void testUploadHolidays_Chunked_BatchFlushViolationFailsChunk() {
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(federalHolidayService, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(federalHolidayService, "uploadChunkSize", 2);
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById("001")).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("unique constraint")).doNothing().when(federalHolidayRepository).flush();
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,New Year\n"
+                + "001,United States," + year + "-07-04,Independence Day\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse.FileResult fileResult = federalHolidayService.uploadHolidays(List.of(file), UploadMode.CHUNKED).getFileResults().get(0);
+
+        assertEquals(1, fileResult.getSuccessRecords());
+        assertEquals(0, fileResult.getDuplicateRecords());
+        assertEquals(List.of(1, 2), fileResult.getFailedRecordsDetails().stream().map(FileUploadResponse.FileResult.FailedRecord::getRowNumber).toList());
+        assertTrue(fileResult.getFailedRecordsDetails().get(0).getErrorMessage().startsWith("Chunk 1 rolled back: Duplicate Record"));
+        assertFalse(fileResult.getChunkResults().get(0).isCommitted());
+        assertTrue(fileResult.getChunkResults().get(1).isCommitted());
+    }
+
+    // Duplicate Scenario: Rows repeating an earlier row's date or name in the same file are rejected in memory
+    @Test
+    public void testUploadHolidays_InFileDuplicatesDetectedWithoutQueries() {
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById("ab1")).thenReturn(Optional.empty());
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "ab1,Testland," + year + "-03-01,Founders Day\n"
+                + "ab1,Testland," + year + "-03-01,Other Name\n"
+                + "ab1,Testland," + year + "-03-02,Founders Day\n"
+                + "AB1,Other Testland," + year + "-03-01,Founders Day";
+        MultipartFile file = new MockMultipartFile("file", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(Collections.singletonList(file));
+
+        FileUploadResponse.FileResult fileResult = response.getFileResults().get(0);
+        assertEquals(2, fileResult.getSuccessRecords());
+        assertEquals(2, fileResult.getDuplicateRecords());
+        assertEquals("Duplicate holiday record for country code: ab1 and date: " + year + "-03-01",
+                fileResult.getDuplicateRecordsDetails().get(0).getErrorMessage());
+        assertEquals("Duplicate holiday record for country code: ab1 and name: Founders Day",
+                fileResult.getDuplicateRecordsDetails().get(1).getErrorMessage());
+        verify(federalHolidayRepository, never()).existsByCountryCodeAndHolidayDate(any(), any());
+        verify(federalHolidayRepository, never()).existsByCountryCodeAndHolidayName(any(), any());
+    }
+
+    @Test
+    public void testUploadHolidays_RowOutcomesCategorisedWithoutExceptions() {
+        int year = LocalDate.now().getYear();
+        Country country = new Country();
+        country.setCountryCode("ab1");
+        country.setCountryName("Testland");
+        when(countryRepository.findById("ab1")).thenReturn(Optional.of(country));
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "ab1,Testland," + year + "-03-01,Founders Day\n"
+                + "ab1,Testland," + year + "-03-01,Second Day\n"
+                + "ab1-x,Testland," + year + "-03-03,Bad Code\n"
+                + "ab1,Testland," + year + "-02-30,Bad Date\n"
+                + "ab1,Testland," + (year - 1) + "-03-04,Last Year\n"
+                + "ab1,Elsewhere," + year + "-03-05,Wrong Name\n"
+                + "ab1,Testland";
+        MultipartFile file = new MockMultipartFile("file", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(Collections.singletonList(file));
+
+        FileUploadResponse.FileResult fileResult = response.getFileResults().get(0);
+        assertEquals(7, fileResult.getTotalRecords());
+        assertEquals(1, fileResult.getSuccessRecords());
+        assertEquals(1, fileResult.getDuplicateRecords());
+        assertEquals(2, fileResult.getDuplicateRecordsDetails().get(0).getRowNumber());
+        assertEquals("Duplicate holiday record for country code: ab1 and date: " + year + "-03-01",
+                fileResult.getDuplicateRecordsDetails().get(0).getErrorMessage());
+        assertEquals(5, fileResult.getFailedRecords());
+        List<String> messages = fileResult.getFailedRecordsDetails().stream()
+                .map(FileUploadResponse.FileResult.FailedRecord::getErrorMessage).toList();
+        assertEquals(List.of(
+                "Country code must be 1 to 3 alphanumeric characters. Provided: ab1-x.",
+                "Invalid date or Holiday date must be in the format yyyy-MM-dd. Provided: " + year + "-02-30",
+                "Holiday date must be within the current year. Provided: " + (year - 1) + "-03-04",
+                "Country name does not match the existing record for country code: ab1",
+                "Row has missing data. Expected 4 columns, found 2"), messages);
+    }
+
+    @Test
+    public void testUploadHolidays_Upsert_CountsInsertedUpdatedAndSkipped() {
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        HolidayUpsertWriter holidayUpsertWriter = mock(HolidayUpsertWriter.class);
+        ReflectionTestUtils.setField(federalHolidayService, "holidayUpsertWriter", holidayUpsertWriter);
+        ReflectionTestUtils.setField(federalHolidayService, "uploadBatchSize", 3);
+        int year = LocalDate.now().getYear();
+        when(holidayUpsertWriter.findCountryName("001")).thenReturn("United States");
+        when(holidayUpsertWriter.isCountryNameTaken("United States")).thenReturn(true);
+        List<List<String>> batches = new ArrayList<>();
+        when(holidayUpsertWriter.upsert(anyList())).thenAnswer(invocation -> {
+            List<UploadRecord> rows = invocation.getArgument(0);
+            batches.add(rows.stream().map(UploadRecord::getHolidayName).toList());
+            return batches.size() == 1
+                    ? new HolidayUpsertWriter.UpsertResult[]{HolidayUpsertWriter.UpsertResult.INSERTED, HolidayUpsertWriter.UpsertResult.SKIPPED}
+                    : new HolidayUpsertWriter.UpsertResult[]{HolidayUpsertWriter.UpsertResult.UPDATED, HolidayUpsertWriter.UpsertResult.INSERTED};
+        });
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,New Year\n"
+                + "001,United States," + year + "-07-04,Independence Day\n"
+                + "002,United States," + year + "-07-04,Independence Day\n"
+                + "001,United States," + year + "-01-01,New Year's Day\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse response = federalHolidayService.uploadHolidays(List.of(file), UploadMode.UPSERT);
+
+        // The second row for 01-01 starts a new batch so it is applied after the first
+        assertEquals(List.of(List.of("New Year", "Independence Day"), List.of("New Year's Day", "Christmas")), batches);
+        FileUploadResponse.FileResult fileResult = response.getFileResults().get(0);
+        assertEquals(5, fileResult.getTotalRecords());
+        assertEquals(3, fileResult.getSuccessRecords());
+        assertEquals(2, fileResult.getInsertedRecords());
+        assertEquals(1, fileResult.getUpdatedRecords());
+        assertEquals(1, fileResult.getSkippedRecords());
+        assertEquals(2, fileResult.getDuplicateRecordsDetails().get(0).getRowNumber());
+        assertEquals(3, fileResult.getFailedRecordsDetails().get(0).getRowNumber());
+        assertEquals("Country code does not match the existing record for country name: United States",
+                fileResult.getFailedRecordsDetails().get(0).getErrorMessage());
+        verify(holidayUpsertWriter, never()).createCountry(any(), any());
+        verify(holidayUpsertWriter).evictSecondLevelCacheAfterCommit();
+        verifyNoInteractions(federalHolidayRepository);
+    }
+
+    @Test
+    public void testUploadHolidays_Upsert_RowsSharingNameWrittenInFileOrder() {
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        HolidayUpsertWriter holidayUpsertWriter = mock(HolidayUpsertWriter.class);
+        ReflectionTestUtils.setField(federalHolidayService, "holidayUpsertWriter", holidayUpsertWriter);
+        ReflectionTestUtils.setField(federalHolidayService, "uploadBatchSize", 10);
+        int year = LocalDate.now().getYear();
+        when(holidayUpsertWriter.findCountryName("001")).thenReturn("United States");
+        List<List<String>> batches = new ArrayList<>();
+        when(holidayUpsertWriter.upsert(anyList())).thenAnswer(invocation -> {
+            List<UploadRecord> rows = invocation.getArgument(0);
+            batches.add(rows.stream().map(row -> row.getHolidayDateText() + " " + row.getHolidayName()).toList());
+            HolidayUpsertWriter.UpsertResult[] results = new HolidayUpsertWriter.UpsertResult[rows.size()];
+            Arrays.fill(results, HolidayUpsertWriter.UpsertResult.INSERTED);
+            return results;
+        });
+
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-07-04,Founders Day\n"
+                + "001,United States," + year + "-03-01,Founders Day\n"
+                + "001,United States," + year + "-12-25,Christmas";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        federalHolidayService.uploadHolidays(List.of(file), UploadMode.UPSERT);
+
+        // The second Founders Day starts a new batch, so its update cannot run before the first row's insert
+        assertEquals(List.of(List.of(year + "-07-04 Founders Day"), List.of(year + "-03-01 Founders Day", year + "-12-25 Christmas")), batches);
+    }
+
+    @Test
+    public void testUploadHolidays_Pipelined_SameResultsAsSequential() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ReflectionTestUtils.setField(federalHolidayService, "uploadExecutor", executor);
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Spans several pipeline blocks, with invalid rows and in-file duplicates spread over them
+        StringBuilder csvContent = new StringBuilder("countryCode,countryName,holidayDate,holidayName\n");
+        for (int row = 0; row < 3 * UploadPipeline.BLOCK_SIZE + 10; row++) {
+            String countryCode = row % 17 == 0 ? "BAD-1" : "C" + (row % 7);
+            String holidayDate = row % 13 == 0 ? year + "-02-30" : LocalDate.ofYearDay(year, row % 300 + 1).toString();
+            csvContent.append(countryCode).append(",Country ").append(row % 7).append(',')
+                    .append(holidayDate).append(",Holiday ").append(row % 350).append('\n');
+        }
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.toString().getBytes());
+
+        try {
+            FileUploadResponse sequential = federalHolidayService.uploadHolidays(List.of(file), UploadMode.SEQUENTIAL);
+            FileUploadResponse pipelined = federalHolidayService.uploadHolidays(List.of(file), UploadMode.PIPELINED);
+
+            // Each upload writes a report of its own, with the same rows
+            FileUploadResponse.FileResult sequentialResult = sequential.getFileResults().get(0);
+            FileUploadResponse.FileResult fileResult = pipelined.getFileResults().get(0);
+            assertEquals(Files.readAllLines(uploadReportService.getReport(sequentialResult.getReportId())),
+                    Files.readAllLines(uploadReportService.getReport(fileResult.getReportId())));
+            sequentialResult.setReportId(null);
+            fileResult.setReportId(null);
+            assertEquals(sequential, pipelined);
+            assertEquals(3 * UploadPipeline.BLOCK_SIZE + 10, fileResult.getTotalRecords());
+            assertTrue(fileResult.getFailedRecords() > 0);
+            assertTrue(fileResult.getDuplicateRecords() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Error Scenario: When the writer fails partway, the parser stops and closes the file before the upload returns
+    @Test
+    public void testUploadHolidays_Pipelined_WriterFailureClosesSourceBeforeReturning() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ReflectionTestUtils.setField(federalHolidayService, "uploadExecutor", executor);
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(federalHolidayService, "entityManager", mock(EntityManager.class));
+        ReflectionTestUtils.setField(federalHolidayService, "uploadBatchSize", 2);
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("unique constraint")).when(federalHolidayRepository).flush();
+
+        // Far more rows than the queue holds, so the parser is still reading when the first flush fails
+        StringBuilder csvContent = new StringBuilder("countryCode,countryName,holidayDate,holidayName\n");
+        for (int row = 0; row < 4 * UploadPipeline.QUEUE_CAPACITY * UploadPipeline.BLOCK_SIZE; row++) {
+            csvContent.append('C').append(row % 100).append(",Country ").append(row % 100).append(',')
+                    .append(LocalDate.ofYearDay(year, row % 300 + 1)).append(",Holiday ").append(row).append('\n');
+        }
+        AtomicBoolean closed = new AtomicBoolean();
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.toString().getBytes()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new ByteArrayInputStream(getBytes()) {
+                    @Override
+                    public void close() {
+                        closed.set(true);
+                    }
+                };
+            }
+        };
+
+        try {
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> federalHolidayService.uploadHolidays(List.of(file), UploadMode.PIPELINED));
+            assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+            assertTrue(closed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testUploadHolidays_RejectedRowsBeyondInlineLimitOnlyInReport() throws IOException {
+        ReflectionTestUtils.setField(uploadReportService, "inlineLimit", 2);
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n"
+                + "001,United States," + year + "-01-01,\"Quoted, \"\"Day\"\"\"\n"
+                + "001,United States," + year + "-01-01,Same Day\n"
+                + "001,United States," + year + "-02-01,\"Quoted, \"\"Day\"\"\"\n"
+                + "001,United States," + year + "-02-30,Bad Date\n"
+                + "BAD-1,United States," + year + "-03-01,Bad Code\n"
+                + "001,United States," + year + "-01-01,Another Day\n"
+                + "002,,," + year + "-04-01\n";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse.FileResult fileResult = federalHolidayService.uploadHolidays(List.of(file)).getFileResults().get(0);
+
+        // Counts stay exact while the details stop at the inline limit
+        assertEquals(1, fileResult.getSuccessRecords());
+        assertEquals(3, fileResult.getDuplicateRecords());
+        assertEquals(3, fileResult.getFailedRecords());
+        assertEquals(List.of(2, 3), fileResult.getDuplicateRecordsDetails().stream().map(FileUploadResponse.FileResult.DuplicateRecord::getRowNumber).toList());
+        assertEquals(List.of(4, 5), fileResult.getFailedRecordsDetails().stream().map(FileUploadResponse.FileResult.FailedRecord::getRowNumber).toList());
+
+        List<String> report = Files.readAllLines(uploadReportService.getReport(fileResult.getReportId()));
+        assertEquals(List.of("rowNumber,outcome,errorMessage",
+                "2,DUPLICATE,\"Duplicate holiday record for country code: 001 and date: " + year + "-01-01\"",
+                "3,DUPLICATE,\"Duplicate holiday record for country code: 001 and name: Quoted, \"\"Day\"\"\"",
+                "4,FAILED,\"Invalid date or Holiday date must be in the format yyyy-MM-dd. Provided: " + year + "-02-30\"",
+                "5,FAILED,\"Country code must be 1 to 3 alphanumeric characters. Provided: BAD-1.\"",
+                "6,DUPLICATE,\"Duplicate holiday record for country code: 001 and date: " + year + "-01-01\"",
+                "7,FAILED,\"Country name is required.\""), report);
+    }
+
+    @Test
+    public void testUploadHolidays_NoReportWhenNoRowRejected() {
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n001,United States," + year + "-01-01,New Year\n";
+        MultipartFile file = new MockMultipartFile("files", "test.csv", "text/csv", csvContent.getBytes());
+
+        FileUploadResponse.FileResult fileResult = federalHolidayService.uploadHolidays(List.of(file)).getFileResults().get(0);
+
+        assertNull(fileResult.getReportId());
+        assertTrue(fileResult.getFailedRecordsDetails().isEmpty());
+    }
+
+    @Test
+    public void testUploadStreamedHolidays_ReadsSourcesAsIteratedAndRejectsParallel() {
+        ReflectionTestUtils.setField(federalHolidayService, "transactionTemplate", new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        int year = LocalDate.now().getYear();
+        when(countryRepository.findById(any())).thenReturn(Optional.empty());
+        when(federalHolidayRepository.save(any(FederalHoliday.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        String csvContent = "countryCode,countryName,holidayDate,holidayName\n001,United States," + year + "-01-01,New Year\n";
+
+        CustomException exception = assertThrows(CustomException.class, () -> federalHolidayService.uploadStreamedHolidays(
+                List.of(UploadSource.of("test.csv", new ByteArrayInputStream(csvContent.getBytes()))), UploadMode.PARALLEL, new UploadProgress()));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+
+        FileUploadResponse empty = federalHolidayService.uploadStreamedHolidays(List.of(), UploadMode.SEQUENTIAL, new UploadProgress());
+        assertEquals("No files uploaded. Please upload at least one file.", empty.getMessage());
+
+        FileUploadResponse response = federalHolidayService.uploadStreamedHolidays(
+                List.of(UploadSource.of("test.csv", new ByteArrayInputStream(csvContent.getBytes()))), UploadMode.SEQUENTIAL, new UploadProgress());
+        assertEquals("Files processed successfully", response.getMessage());
+        assertEquals(1, response.getFileResults().get(0).getSuccessRecords());
+    }
+
+    private static UploadReportService newUploadReportService() {
+        UploadReportServiceImpl service = new UploadReportServiceImpl();
+        ReflectionTestUtils.setField(service, "inlineLimit", 100);
+        ReflectionTestUtils.setField(service, "retentionMinutes", 60L);
+        return service;
+    }
+
     // Helper method to convert Workbook to byte array
     private byte[] workbookToByteArray(Workbook workbook) throws IOException {
         try (java.io.ByteArrayOutputStream bos = new java.io.ByteArrayOutputStream()) {
@@ -0,0 +1,120 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.CacheStatsResponse;
+import com.api.federalHolidays.dto.FederalHolidayResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCalendarCacheTest {
+
+    private final HolidayCalendarCache cache = new HolidayCalendarCache();
+
+    private CountryCalendar calendar(String countryCode) {
+        FederalHolidayResponse holiday = new FederalHolidayResponse(1L, countryCode, "United States", LocalDate.of(2025, 1, 1), "New Year", "Holiday fetched successfully");
+        return new CountryCalendar(countryCode, List.of(holiday));
+    }
+
+    @Test
+    public void testGet_LoadsOnceAndCountsHitsAndMisses() {
+        AtomicInteger loads = new AtomicInteger();
+
+        CountryCalendar first = cache.get("001", code -> {
+            loads.incrementAndGet();
+            return calendar(code);
+        });
+        CountryCalendar second = cache.get("001", code -> {
+            loads.incrementAndGet();
+            return calendar(code);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        CacheStatsResponse stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    public void testGet_NullLoadIsCachedUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("999", code -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("999", code -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getHits());
+
+        cache.evict("999");
+        assertNotNull(cache.get("999", this::calendar));
+    }
+
+    @Test
+    public void testEvictAfterCommit_WithoutTransactionEvictsImmediately() {
+        CountryCalendar first = cache.get("001", this::calendar);
+
+        cache.evictAfterCommit("001");
+        CountryCalendar reloaded = cache.get("001", this::calendar);
+
+        assertNotSame(first, reloaded);
+        assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void testGet_LoadRacingWithEvictionIsNotInstalled() {
+        CountryCalendar loaded = cache.get("001", code -> {
+            cache.evict(code);
+            return calendar(code);
+        });
+
+        assertNotNull(loaded);
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @Test
+    public void testGet_EvictionOfAnotherCountryDoesNotStopLoadFromBeingInstalled() {
+        cache.get("001", code -> {
+            cache.evict("002");
+            return calendar(code);
+        });
+
+        assertEquals(1, cache.getStats().getSize());
+    }
+
+    @Test
+    public void testNextAndPreviousHolidays_BinarySearchOnSortedDates() {
+        CountryCalendar calendar = new CountryCalendar("001", List.of(
+                new FederalHolidayResponse(3L, "001", "United States", LocalDate.of(2025, 12, 25), "Christmas", null),
+                new FederalHolidayResponse(1L, "001", "United States", LocalDate.of(2025, 1, 1), "New Year", null),
+                new FederalHolidayResponse(2L, "001", "United States", LocalDate.of(2025, 7, 4), "Independence Day", null)));
+
+        assertEquals(List.of(2L, 3L), calendar.nextHolidays(LocalDate.of(2025, 1, 1), 5).stream().map(FederalHolidayResponse::getId).toList());
+        assertEquals(List.of(2L), calendar.nextHolidays(LocalDate.of(2025, 3, 1), 1).stream().map(FederalHolidayResponse::getId).toList());
+        assertTrue(calendar.nextHolidays(LocalDate.of(2025, 12, 25), 1).isEmpty());
+        assertEquals(List.of(2L, 1L), calendar.previousHolidays(LocalDate.of(2025, 12, 25), 2).stream().map(FederalHolidayResponse::getId).toList());
+        assertEquals(List.of(3L, 2L, 1L), calendar.previousHolidays(LocalDate.of(2026, 1, 1), 10).stream().map(FederalHolidayResponse::getId).toList());
+        assertTrue(calendar.previousHolidays(LocalDate.of(2025, 1, 1), 1).isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+        CountryCalendar calendar = cache.get("001", this::calendar);
+
+        assertThrows(UnsupportedOperationException.class, () -> calendar.getHolidays().clear());
+        // Every call hands out new holidays, so changing one does not reach the snapshot
+        calendar.getHolidays().get(0).setHolidayName("Changed");
+        calendar.nextHolidays(LocalDate.of(2024, 12, 31), 1).get(0).setHolidayName("Changed");
+        assertEquals("New Year", calendar.getHolidays().get(0).getHolidayName());
+        assertEquals("New Year", calendar.nextHolidays(LocalDate.of(2024, 12, 31), 1).get(0).getHolidayName());
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.federalHolidays.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HolidayCsvParserTest {
+
+    private static final String CSV = "countryCode,countryName,holidayDate,holidayName\r\n"
+            + "001, United States ,2026-01-01,New Year\r\n"
+            + "\r\n"
+            + "001,United States,2026-07-04,\"Independence \"\"Fourth\"\" Day\"\n"
+            + "\"002\",\"Canada, Dominion\",2026-02-30,\"Multi\nLine\"\n"
+            + "003,Short";
+
+    @Test
+    public void testParse_QuotingLineBreaksAndTrimming() throws IOException {
+        List<UploadRecord> records = new ArrayList<>();
+        HolidayCsvParser.parse(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)), records::add);
+
+        assertEquals(4, records.size());
+        assertEquals("001", records.get(0).getCountryCode());
+        assertEquals("United States", records.get(0).getCountryName());
+        assertEquals(LocalDate.of(2026, 1, 1), records.get(0).getHolidayDate());
+        assertEquals("2026-01-01", records.get(0).getHolidayDateText());
+        // Repeated country strings are shared between rows
+        assertSame(records.get(0).getCountryName(), records.get(1).getCountryName());
+        assertEquals("Independence \"Fourth\" Day", records.get(1).getHolidayName());
+
+        assertEquals("Canada, Dominion", records.get(2).getCountryName());
+        assertNull(records.get(2).getHolidayDate());
+        assertEquals("2026-02-30", records.get(2).getHolidayDateText());
+        assertEquals("Multi\nLine", records.get(2).getHolidayName());
+
+        assertEquals(2, records.get(3).getColumnCount());
+        assertEquals("Short", records.get(3).getCountryName());
+    }
+
+    @Test
+    public void testParse_FieldsSplitAcrossBuffers() throws IOException {
+        byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        List<UploadRecord> records = new ArrayList<>();
+        HolidayCsvParser parser = new HolidayCsvParser(records::add);
+        for (byte b : bytes) {
+            parser.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+        parser.finish();
+
+        assertEquals(4, records.size());
+        assertEquals("Independence \"Fourth\" Day", records.get(1).getHolidayName());
+        assertEquals("Multi\nLine", records.get(2).getHolidayName());
+    }
+
+    @Test
+    public void testParse_MemoryMappedFile() throws IOException {
+        Path path = Files.createTempFile("holidays-", ".csv");
+        try {
+            Files.write(path, CSV.getBytes(StandardCharsets.UTF_8));
+            List<UploadRecord> records = new ArrayList<>();
+            long[] bytesRead = new long[1];
+            HolidayCsvParser.parse(path, records::add, bytes -> bytesRead[0] += bytes);
+
+            assertEquals(4, records.size());
+            assertEquals(Files.size(path), bytesRead[0]);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testParse_TextAfterClosingQuoteFails() throws IOException {
+        List<UploadRecord> records = new ArrayList<>();
+        // Whitespace after a closing quote is allowed, anything else is not
+        HolidayCsvParser.parse(new ByteArrayInputStream("h1,h2,h3,h4\n001,\"Canada\"  ,2026-07-01,Canada Day\n".getBytes(StandardCharsets.UTF_8)), records::add);
+        assertEquals("Canada", records.get(0).getCountryName());
+
+        IOException exception = assertThrows(IOException.class, () -> HolidayCsvParser.parse(
+                new ByteArrayInputStream("h1,h2,h3,h4\n001,\"Canada\" Dominion,2026-07-01,Canada Day\n".getBytes(StandardCharsets.UTF_8)), record -> { }));
+        assertEquals("(line 2) invalid char between encapsulated token and delimiter", exception.getMessage());
+    }
+
+    @Test
+    public void testParse_UnterminatedQuoteFails() {
+        IOException exception = assertThrows(IOException.class, () -> HolidayCsvParser.parse(
+                new ByteArrayInputStream("h1,h2,h3,h4\n001,Canada,2026-07-01,\"Canada Day\n002,Mexico,2026-09-16,Independence Day\n".getBytes(StandardCharsets.UTF_8)), record -> { }));
+        assertEquals("(startline 2) EOF reached before encapsulated token finished", exception.getMessage());
+    }
+}
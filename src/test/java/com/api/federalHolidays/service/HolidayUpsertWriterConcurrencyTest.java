@@ -0,0 +1,96 @@
+package com.api.federalHolidays.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two uploads writing the same country from their own committed transactions
+@DataJpaTest
+@Import(HolidayUpsertWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class HolidayUpsertWriterConcurrencyTest {
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HolidayUpsertWriter holidayUpsertWriter;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO country (country_code, country_name) VALUES ('C9', 'Country 9')");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM federal_holiday WHERE country_code = 'C9'");
+        jdbcTemplate.update("DELETE FROM country WHERE country_code = 'C9'");
+    }
+
+    @Test
+    public void testUpsert_ConcurrentUploadWaitsForFirstToCommit() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<HolidayUpsertWriter.UpsertResult[]> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                HolidayUpsertWriter.UpsertResult[] results = holidayUpsertWriter.upsert(List.of(row(LocalDate.of(YEAR, 12, 25), "Christmas")));
+                firstWritten.countDown();
+                try {
+                    releaseFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return results;
+            }));
+            assertTrue(firstWritten.await(10, TimeUnit.SECONDS));
+
+            // Reuses the uncommitted name on another date, which no constraint would catch
+            Future<HolidayUpsertWriter.UpsertResult[]> second = executor.submit(() -> transactionTemplate.execute(status ->
+                    holidayUpsertWriter.upsert(List.of(row(LocalDate.of(YEAR, 12, 26), "Christmas")))));
+            // Gives the second upload time to reach its checks before the first commits
+            Thread.sleep(200);
+            assertFalse(second.isDone());
+            releaseFirst.countDown();
+
+            assertArrayEquals(new HolidayUpsertWriter.UpsertResult[]{HolidayUpsertWriter.UpsertResult.INSERTED},
+                    first.get(10, TimeUnit.SECONDS));
+            assertArrayEquals(new HolidayUpsertWriter.UpsertResult[]{HolidayUpsertWriter.UpsertResult.SKIPPED},
+                    second.get(10, TimeUnit.SECONDS));
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(List.of(LocalDate.of(YEAR, 12, 25)), jdbcTemplate.queryForList(
+                "SELECT holiday_date FROM federal_holiday WHERE country_code = 'C9'", LocalDate.class));
+    }
+
+    private static UploadRecord row(LocalDate holidayDate, String holidayName) {
+        return new UploadRecord(4, "C9", "Country 9", null, holidayDate, holidayName);
+    }
+}
@@ -0,0 +1,96 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.entity.Country;
+import com.api.federalHolidays.entity.FederalHoliday;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the upsert statements against H2
+@DataJpaTest
+@Import(HolidayUpsertWriter.class)
+public class HolidayUpsertWriterTest {
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HolidayUpsertWriter holidayUpsertWriter;
+
+    @BeforeEach
+    public void setup() {
+        Country country = new Country();
+        country.setCountryCode("C1");
+        country.setCountryName("Country 1");
+        testEntityManager.persist(country);
+        testEntityManager.persist(new FederalHoliday(null, "Country 1", LocalDate.of(YEAR, 1, 1), "New Year", "C1", "Thursday", null));
+        testEntityManager.persist(new FederalHoliday(null, "Country 1", LocalDate.of(YEAR, 7, 4), "Independence Day", "C1", "Saturday", null));
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    public void testUpsert_RowCountsTellOutcome() {
+        List<UploadRecord> rows = List.of(
+                row(LocalDate.of(YEAR, 1, 1), "New Year's Day"),
+                row(LocalDate.of(YEAR, 12, 25), "Christmas"),
+                row(LocalDate.of(YEAR, 7, 4), "Independence Day"),
+                row(LocalDate.of(YEAR, 11, 1), "Independence Day"));
+
+        HolidayUpsertWriter.UpsertResult[] results = holidayUpsertWriter.upsert(rows);
+
+        assertArrayEquals(new HolidayUpsertWriter.UpsertResult[]{
+                HolidayUpsertWriter.UpsertResult.UPDATED,
+                HolidayUpsertWriter.UpsertResult.INSERTED,
+                HolidayUpsertWriter.UpsertResult.SKIPPED,
+                HolidayUpsertWriter.UpsertResult.SKIPPED}, results);
+        assertEquals("New Year's Day", jdbcTemplate.queryForObject(
+                "SELECT holiday_name FROM federal_holiday WHERE country_code = 'C1' AND holiday_date = ?", String.class, LocalDate.of(YEAR, 1, 1)));
+        assertEquals(LocalDate.of(YEAR, 12, 25).getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH),
+                jdbcTemplate.queryForObject("SELECT day_of_week FROM federal_holiday WHERE holiday_name = 'Christmas'", String.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM federal_holiday", Integer.class));
+    }
+
+    @Test
+    public void testCreateCountry_KeepsExistingName() {
+        assertEquals("Country 2", holidayUpsertWriter.createCountry("C2", "Country 2"));
+        assertEquals("Country 2", holidayUpsertWriter.findCountryName("C2"));
+        assertEquals("Country 1", holidayUpsertWriter.createCountry("C1", "Renamed"));
+        assertTrue(holidayUpsertWriter.isCountryNameTaken("Country 1"));
+        assertFalse(holidayUpsertWriter.isCountryNameTaken("Renamed"));
+        assertNull(holidayUpsertWriter.findCountryName("C3"));
+    }
+
+    @Test
+    public void testEvictSecondLevelCacheAfterCommit_RegisteredOncePerTransaction() {
+        int synchronizations = TransactionSynchronizationManager.getSynchronizations().size();
+
+        holidayUpsertWriter.evictSecondLevelCacheAfterCommit();
+        holidayUpsertWriter.evictSecondLevelCacheAfterCommit();
+
+        // Nothing is evicted until the test transaction completes
+        assertEquals(synchronizations + 1, TransactionSynchronizationManager.getSynchronizations().size());
+        assertTrue(TransactionSynchronizationManager.hasResource(holidayUpsertWriter));
+    }
+
+    private static UploadRecord row(LocalDate holidayDate, String holidayName) {
+        return new UploadRecord(4, "C1", "Country 1", null, holidayDate, holidayName);
+    }
+}
@@ -0,0 +1,87 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----formBoundary7MA4YWxk";
+
+    @Test
+    public void testNext_ReadsPartsInOrderAndSkipsUnreadContent() throws IOException {
+        String body = "preamble\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"note\"\r\n\r\n"
+                + "skipped without being read\r\n"
+                + "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"C:\\uploads\\holidays.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n"
+                + "countryCode,countryName\r\n001,United States\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1) + "\r\n"
+                + "--" + BOUNDARY + "--\r\n";
+        // Small reads so boundaries straddle buffer refills
+        MultipartStreamReader reader = new MultipartStreamReader(trickle(body), BOUNDARY, 1024, 4096);
+
+        MultipartStreamReader.Part note = reader.next();
+        assertEquals("note", note.name());
+        assertNull(note.fileName());
+
+        MultipartStreamReader.Part file = reader.next();
+        assertEquals("files", file.name());
+        assertEquals("holidays.csv", file.fileName());
+        assertEquals("countryCode,countryName\r\n001,United States\r\n--" + BOUNDARY.substring(0, BOUNDARY.length() - 1),
+                new String(file.content().readAllBytes(), StandardCharsets.UTF_8));
+        assertNull(reader.next());
+        assertEquals(-1, note.content().read());
+    }
+
+    @Test
+    public void testRead_PartLargerThanLimitIsRejected() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"big.csv\"\r\n\r\n"
+                + "x".repeat(100) + "\r\n--" + BOUNDARY + "--\r\n";
+        MultipartStreamReader reader = new MultipartStreamReader(trickle(body), BOUNDARY, 99, 4096);
+
+        InputStream content = reader.next().content();
+        CustomException exception = assertThrows(CustomException.class, content::readAllBytes);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatus());
+    }
+
+    @Test
+    public void testNext_BodyWithoutClosingBoundaryIsMalformed() throws IOException {
+        String body = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"cut.csv\"\r\n\r\n"
+                + "countryCode,countryName";
+        MultipartStreamReader reader = new MultipartStreamReader(trickle(body), BOUNDARY, 1024, 4096);
+
+        reader.next();
+        CustomException exception = assertThrows(CustomException.class, reader::next);
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    public void testBoundaryOf() {
+        assertEquals(BOUNDARY, MultipartStreamReader.boundaryOf("multipart/form-data; boundary=" + BOUNDARY));
+        assertEquals("quoted", MultipartStreamReader.boundaryOf("multipart/form-data; boundary=\"quoted\"; charset=UTF-8"));
+        assertNull(MultipartStreamReader.boundaryOf("multipart/form-data"));
+        assertNull(MultipartStreamReader.boundaryOf("text/csv; boundary=abc"));
+        assertNull(MultipartStreamReader.boundaryOf(null));
+    }
+
+    // Returns at most 7 bytes per read
+    private static InputStream trickle(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.entity.Country;
+import com.api.federalHolidays.entity.FederalHoliday;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the staging table statements against H2
+@DataJpaTest
+@Import({StagedHolidayUploader.class, HolidayUpsertWriter.class, HolidayCalendarCache.class, UploadReportServiceImpl.class})
+public class StagedHolidayUploaderTest {
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StagedHolidayUploader stagedHolidayUploader;
+
+    @Autowired
+    private HolidayUpsertWriter holidayUpsertWriter;
+
+    @Test
+    public void testUpload_SetBasedValidationMatchesRowByRowOutcomes() throws IOException {
+        Country country = new Country();
+        country.setCountryCode("C1");
+        country.setCountryName("Country 1");
+        testEntityManager.persist(country);
+        testEntityManager.persist(new FederalHoliday(null, "Country 1", LocalDate.of(YEAR, 1, 1), "New Year", "C1", "Thursday", null));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<UploadRecord> rows = List.of(
+                row("C1", "Country 1", YEAR + "-01-01", "Another"),
+                row("C1", "Country 1", YEAR + "-07-04", "New Year"),
+                row("C1", "Country 1", YEAR + "-12-25", "Christmas"),
+                row("C1", "Country 1", YEAR + "-12-25", "Xmas"),
+                row("C2", "Country 2", YEAR + "-03-01", "Founding Day"),
+                row("C2", "Other Name", YEAR + "-03-02", "Second Day"),
+                row("C3", "Country 1", YEAR + "-03-03", "Third Day"),
+                row("C1-X", "Country 1", YEAR + "-03-04", "Bad Code"),
+                row("C1", "Country 1", YEAR + "-02-30", "Bad Date"),
+                UploadRecord.of(List.of("C1", "Country 1")));
+
+        FileUploadResponse.FileResult fileResult = stagedHolidayUploader.upload("test.csv", rows::forEach, new UploadProgress());
+
+        assertEquals("test.csv", fileResult.getFileName());
+        assertEquals(10, fileResult.getTotalRecords());
+        assertEquals(2, fileResult.getSuccessRecords());
+        assertEquals(List.of(1, 2, 4), fileResult.getDuplicateRecordsDetails().stream()
+                .map(FileUploadResponse.FileResult.DuplicateRecord::getRowNumber).toList());
+        assertEquals("Duplicate holiday record for country code: C1 and date: " + YEAR + "-01-01",
+                fileResult.getDuplicateRecordsDetails().get(0).getErrorMessage());
+        assertEquals("Duplicate holiday record for country code: C1 and name: New Year",
+                fileResult.getDuplicateRecordsDetails().get(1).getErrorMessage());
+        assertEquals(List.of(
+                "Country name does not match the existing record for country code: C2",
+                "Country code does not match the existing record for country name: Country 1",
+                "Country code must be 1 to 3 alphanumeric characters. Provided: C1-X.",
+                "Invalid date or Holiday date must be in the format yyyy-MM-dd. Provided: " + YEAR + "-02-30",
+                "Row has missing data. Expected 4 columns, found 2"), fileResult.getFailedRecordsDetails().stream()
+                .map(FileUploadResponse.FileResult.FailedRecord::getErrorMessage).toList());
+        assertEquals(5, fileResult.getFailedRecords());
+
+        assertEquals("Country 2", jdbcTemplate.queryForObject("SELECT country_name FROM country WHERE country_code = 'C2'", String.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM federal_holiday", Integer.class));
+        assertEquals(LocalDate.of(YEAR, 12, 25).getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH),
+                jdbcTemplate.queryForObject("SELECT day_of_week FROM federal_holiday WHERE holiday_name = 'Christmas'", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM holiday_upload_staging", Integer.class));
+        // The second-level cache is only evicted once the test transaction completes
+        assertTrue(TransactionSynchronizationManager.hasResource(holidayUpsertWriter));
+    }
+
+    @Test
+    public void testUpload_NewCountryRowsComparedWithItsFirstRow() throws IOException {
+        List<UploadRecord> rows = List.of(
+                row("C5", "Country 5", YEAR + "-01-01", "New Year"),
+                row("C5", "Other Name", YEAR + "-01-02", "Second Day"),
+                row("C5", "Country 5", YEAR + "-01-03", "Third Day"),
+                row("C6", "Country 5", YEAR + "-01-04", "Fourth Day"),
+                row("C5", "Country 5", YEAR + "-01-05", "New Year"));
+
+        FileUploadResponse.FileResult fileResult = stagedHolidayUploader.upload("test.csv", rows::forEach, new UploadProgress());
+
+        // As row by row, the third row only has to match the name the first row created the country with
+        assertEquals(2, fileResult.getSuccessRecords());
+        assertEquals(List.of(2, 4), fileResult.getFailedRecordsDetails().stream()
+                .map(FileUploadResponse.FileResult.FailedRecord::getRowNumber).toList());
+        assertEquals("Country code does not match the existing record for country name: Country 5",
+                fileResult.getFailedRecordsDetails().get(1).getErrorMessage());
+        assertEquals(List.of(5), fileResult.getDuplicateRecordsDetails().stream()
+                .map(FileUploadResponse.FileResult.DuplicateRecord::getRowNumber).toList());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM country WHERE country_code = 'C5'", Integer.class));
+    }
+
+    private static UploadRecord row(String countryCode, String countryName, String holidayDate, String holidayName) {
+        return new UploadRecord(4, countryCode, countryName, holidayDate, null, holidayName);
+    }
+}
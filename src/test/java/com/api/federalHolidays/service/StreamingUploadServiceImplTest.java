@@ -0,0 +1,89 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.UploadMode;
+import com.api.federalHolidays.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingUploadServiceImplTest {
+
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=XyZ";
+
+    @Mock
+    private FederalHolidayService federalHolidayService;
+
+    @InjectMocks
+    private StreamingUploadServiceImpl streamingUploadService;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(streamingUploadService, "maxFileSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(streamingUploadService, "maxRequestSize", DataSize.ofMegabytes(2));
+    }
+
+    @Test
+    public void testUploadHolidays_FilePartsReadInOrderAsTheyAreIterated() {
+        String body = "--XyZ\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"first.csv\"\r\n\r\n"
+                + "countryCode,countryName,holidayDate,holidayName\n001,United States,2026-01-01,New Year\r\n"
+                + "--XyZ\r\n"
+                + "Content-Disposition: form-data; name=\"comment\"\r\n\r\n"
+                + "not a file\r\n"
+                + "--XyZ\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"second.xlsx\"\r\n\r\n"
+                + "xlsx bytes\r\n"
+                + "--XyZ--\r\n";
+        List<String> seen = new ArrayList<>();
+        FileUploadResponse result = new FileUploadResponse();
+        when(federalHolidayService.uploadStreamedHolidays(any(), eq(UploadMode.CHUNKED), any(UploadProgress.class))).thenAnswer(invocation -> {
+            Iterable<UploadSource> sources = invocation.getArgument(0);
+            for (UploadSource source : sources) {
+                try (InputStream content = source.openStream()) {
+                    seen.add(source.getFileName() + ":" + new String(content.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return result;
+        });
+
+        assertSame(result, streamingUploadService.uploadHolidays(CONTENT_TYPE, stream(body), UploadMode.CHUNKED));
+        assertEquals(List.of("first.csv:countryCode,countryName,holidayDate,holidayName\n001,United States,2026-01-01,New Year",
+                "second.xlsx:xlsx bytes"), seen);
+    }
+
+    @Test
+    public void testUploadHolidays_NotMultipart() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> streamingUploadService.uploadHolidays("text/csv", stream(""), UploadMode.SEQUENTIAL));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verifyNoInteractions(federalHolidayService);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,108 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import com.api.federalHolidays.dto.UploadJobResponse;
+import com.api.federalHolidays.dto.UploadJobStatus;
+import com.api.federalHolidays.dto.UploadMode;
+import com.api.federalHolidays.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UploadJobServiceImplTest {
+
+    @Mock
+    private FederalHolidayService federalHolidayService;
+
+    @InjectMocks
+    private UploadJobServiceImpl uploadJobService;
+
+    private final MockMultipartFile file = new MockMultipartFile("files", "holidays.csv", "text/csv",
+            "countryCode,countryName,holidayDate,holidayName\n001,United States,2026-01-01,New Year".getBytes());
+
+    @Test
+    public void testSubmitUpload_RunsJobAndDeletesSpooledFiles() {
+        ReflectionTestUtils.setField(uploadJobService, "uploadJobExecutor", (TaskExecutor) Runnable::run);
+        List<UploadSource> seen = new ArrayList<>();
+        FileUploadResponse result = new FileUploadResponse();
+        result.setMessage("Files processed successfully");
+        when(federalHolidayService.uploadHolidays(anyList(), eq(UploadMode.SEQUENTIAL), any(UploadProgress.class))).thenAnswer(invocation -> {
+            List<UploadSource> sources = invocation.getArgument(0);
+            seen.addAll(sources);
+            assertTrue(Files.exists(sources.get(0).getPath()));
+            UploadProgress progress = invocation.getArgument(2);
+            progress.rowParsed();
+            progress.rowSucceeded();
+            return result;
+        });
+
+        UploadJobResponse submitted = uploadJobService.submitUpload(List.of(file), UploadMode.SEQUENTIAL);
+        UploadJobResponse job = uploadJobService.getJob(submitted.getJobId());
+
+        assertEquals(UploadJobStatus.COMPLETED, job.getStatus());
+        assertSame(result, job.getResult());
+        assertEquals(1, job.getRowsSucceeded());
+        assertEquals("holidays.csv", seen.get(0).getFileName());
+        assertEquals(file.getSize(), seen.get(0).getSize());
+        assertFalse(Files.exists(seen.get(0).getPath()));
+    }
+
+    @Test
+    public void testSubmitUpload_FailedJobReportsError() {
+        ReflectionTestUtils.setField(uploadJobService, "uploadJobExecutor", (TaskExecutor) Runnable::run);
+        when(federalHolidayService.uploadHolidays(anyList(), eq(UploadMode.PARALLEL), any(UploadProgress.class)))
+                .thenThrow(new CustomException("Failed to process the file: broken", HttpStatus.INTERNAL_SERVER_ERROR));
+
+        UploadJobResponse job = uploadJobService.submitUpload(List.of(file), UploadMode.PARALLEL);
+
+        assertEquals(UploadJobStatus.FAILED, uploadJobService.getJob(job.getJobId()).getStatus());
+        assertEquals("Failed to process the file: broken", uploadJobService.getJob(job.getJobId()).getErrorMessage());
+    }
+
+    @Test
+    public void testSubmitUpload_ExecutorFull() {
+        ReflectionTestUtils.setField(uploadJobService, "uploadJobExecutor", (TaskExecutor) task -> {
+            throw new TaskRejectedException("full");
+        });
+
+        CustomException exception = assertThrows(CustomException.class, () ->
+                uploadJobService.submitUpload(List.of(file), UploadMode.SEQUENTIAL));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        verifyNoInteractions(federalHolidayService);
+    }
+
+    @Test
+    public void testSubmitUpload_UnsupportedFileFormat() {
+        MockMultipartFile text = new MockMultipartFile("files", "holidays.txt", "text/plain", "data".getBytes());
+
+        CustomException exception = assertThrows(CustomException.class, () ->
+                uploadJobService.submitUpload(List.of(text), UploadMode.SEQUENTIAL));
+        assertEquals("Unsupported file format. Only CSV and Excel files are allowed.", exception.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    public void testGetJob_NotFound() {
+        CustomException exception = assertThrows(CustomException.class, () -> uploadJobService.getJob("missing"));
+        assertEquals("Upload job not found: missing", exception.getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+    }
+}
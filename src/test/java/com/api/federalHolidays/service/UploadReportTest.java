@@ -0,0 +1,58 @@
+package com.api.federalHolidays.service;
+
+import com.api.federalHolidays.dto.FileUploadResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UploadReportTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testRollbackTo_DropsRowsAddedSinceMarkFromCountsDetailsAndFile() throws IOException {
+        Path file = directory.resolve("report.csv");
+        UploadReport report = new UploadReport("report", file, 1);
+        report.addFailedRecord(1, "first");
+        UploadReport.Mark mark = report.mark();
+        report.addFailedRecord(2, "second");
+        report.addDuplicateRecord(3, "third");
+        report.mark();
+
+        report.rollbackTo(mark);
+        report.addDuplicateRecord(4, "fourth");
+        FileUploadResponse.FileResult fileResult = new FileUploadResponse.FileResult();
+        report.complete(fileResult);
+
+        assertEquals(1, fileResult.getFailedRecords());
+        assertEquals(1, fileResult.getDuplicateRecords());
+        assertEquals(1, fileResult.getFailedRecordsDetails().get(0).getRowNumber());
+        assertEquals(4, fileResult.getDuplicateRecordsDetails().get(0).getRowNumber());
+        assertEquals("report", fileResult.getReportId());
+        assertEquals(List.of("rowNumber,outcome,errorMessage", "1,FAILED,\"first\"", "4,DUPLICATE,\"fourth\""), Files.readAllLines(file));
+    }
+
+    @Test
+    public void testRollbackTo_MarkBeforeFirstRejectedRowLeavesNoReport() {
+        Path file = directory.resolve("report.csv");
+        UploadReport report = new UploadReport("report", file, 100);
+        UploadReport.Mark mark = report.mark();
+        report.addFailedRecord(1, "first");
+        report.mark();
+
+        report.rollbackTo(mark);
+        FileUploadResponse.FileResult fileResult = new FileUploadResponse.FileResult();
+        report.complete(fileResult);
+
+        assertEquals(0, fileResult.getFailedRecords());
+        assertTrue(fileResult.getFailedRecordsDetails().isEmpty());
+        assertNull(fileResult.getReportId());
+    }
+}
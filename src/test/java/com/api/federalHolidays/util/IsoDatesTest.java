@@ -0,0 +1,97 @@
+package com.api.federalHolidays.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsoDatesTest {
+
+    @Test
+    public void testParse_StrictCalendarRules() {
+        assertEquals(LocalDate.of(2024, 2, 29), IsoDates.parse("2024-02-29"));
+        assertEquals(LocalDate.of(2000, 2, 29), IsoDates.parse("2000-02-29"));
+        assertNull(IsoDates.parse("1900-02-29"));
+        assertNull(IsoDates.parse("2026-02-29"));
+        assertNull(IsoDates.parse("2026-04-31"));
+        assertNull(IsoDates.parse("2026-13-01"));
+        assertNull(IsoDates.parse("2026-00-10"));
+        assertNull(IsoDates.parse("2026-1-01"));
+        assertNull(IsoDates.parse("26-01-2026"));
+        assertNull(IsoDates.parse("2026/01/01"));
+        assertNull(IsoDates.parse("+026-01-01"));
+        assertNull(IsoDates.parse(""));
+        assertNull(IsoDates.parse(null));
+        assertEquals(-1, IsoDates.year("2026-02-30"));
+        assertEquals(2026, IsoDates.year("2026-12-31"));
+    }
+
+    @Test
+    public void testParse_MatchesStrictFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd").withResolverStyle(ResolverStyle.STRICT);
+        for (int month = 0; month <= 13; month++) {
+            for (int day = 0; day <= 32; day++) {
+                for (String year : new String[]{"1900", "2000", "2024", "2026"}) {
+                    String text = String.format("%s-%02d-%02d", year, month, day);
+                    LocalDate expected;
+                    try {
+                        expected = LocalDate.parse(text, formatter);
+                    } catch (DateTimeParseException e) {
+                        expected = null;
+                    }
+                    assertEquals(expected, IsoDates.parse(text), text);
+                    byte[] bytes = (" " + text + " ").getBytes(StandardCharsets.US_ASCII);
+                    assertEquals(expected, IsoDates.parse(bytes, 1, bytes.length - 1), text);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCurrentYear_RollsOverAtMidnight() {
+        ZoneId zone = ZoneOffset.ofHours(5);
+        MutableClock clock = new MutableClock(LocalDate.of(2026, 12, 31).atTime(23, 59, 59).atZone(zone).toInstant(), zone);
+        CurrentYear currentYear = new CurrentYear(clock);
+
+        assertEquals(2026, currentYear.get());
+        clock.instant = LocalDate.of(2027, 1, 1).atStartOfDay(zone).toInstant();
+        assertEquals(2027, currentYear.get());
+        // A clock set back is followed as well
+        clock.instant = LocalDate.of(2026, 6, 1).atStartOfDay(zone).toInstant();
+        assertEquals(2026, currentYear.get());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+        private final ZoneId zone;
+
+        private MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}